@@ -0,0 +1,466 @@
+import javax.sound.sampled.*;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Mixer perangkat lunak: satu SourceDataLine untuk semua suara. Sampel di-decode sekali ke
+// PCM 16-bit stereo 44.1 kHz, lalu dicampur dan diberi gain di thread audio sendiri.
+// Thread lain hanya mengirim perintah lewat antrean, jadi play() tidak pernah menunggu.
+// Musik latar tidak di-decode utuh: Stream membaca file per potongan ke ring buffer.
+// Dipakai bersama oleh Maze dan Snake Ladder lewat modul Audio.
+public class SoftwareMixer {
+    public static final AudioFormat FORMAT = new AudioFormat(44100f, 16, 2, true, false);
+    public static final int DEFAULT_BUFFER_FRAMES = 1024; // ~23 ms per blok
+    private static final int MAX_VOICES = 16;
+
+    /** Sampel yang sudah di-decode: short stereo berselang-seling dalam FORMAT. */
+    public static final class Sample {
+        public static final Sample SILENCE = new Sample(new short[0]);
+        final short[] data;
+
+        Sample(short[] data) {
+            this.data = data;
+        }
+
+        public int frames() { return data.length / 2; }
+    }
+
+    /**
+     * Sumber audio yang dibaca bertahap: thread pembaca men-decode file per potongan ke ring
+     * buffer, thread audio mengambil dari sana. Saat loop, file dibuka ulang tanpa jeda karena
+     * ring buffer dan posisi resampler tetap berlanjut.
+     */
+    static final class Stream implements Runnable {
+        private static final int RING = 1 << 16;   // short, ~0.74 s stereo
+        private static final int CHUNK = 16 * 1024; // byte per baca dari file
+
+        private final File file;
+        private final boolean loop;
+        private final short[] ring = new short[RING];
+        private volatile long written, read; // posisi dalam short, hanya bertambah
+        private volatile boolean closed, finished;
+        private volatile Thread reader;
+        private AudioInputStream in;
+        private int channels;
+        private double step, position;
+        private long sourceFrame;
+        private short prevLeft, prevRight;
+
+        Stream(File file, boolean loop) throws IOException, UnsupportedAudioFileException {
+            this.file = file;
+            this.loop = loop;
+            open(); // buka di thread pemanggil agar file rusak langsung dilaporkan
+        }
+
+        private void open() throws IOException, UnsupportedAudioFileException {
+            AudioInputStream source = AudioSystem.getAudioInputStream(file);
+            AudioFormat format = source.getFormat();
+            channels = format.getChannels();
+            step = format.getSampleRate() / FORMAT.getSampleRate();
+            in = AudioSystem.getAudioInputStream(new AudioFormat(format.getSampleRate(), 16, channels, true, false), source);
+        }
+
+        @Override
+        public void run() {
+            reader = Thread.currentThread();
+            byte[] chunk = new byte[CHUNK - CHUNK % (2 * channels)];
+            try {
+                while (!closed) {
+                    int n = in.readNBytes(chunk, 0, chunk.length);
+                    int frameBytes = 2 * channels;
+                    for (int b = 0; b + frameBytes <= n && !closed; b += frameBytes) {
+                        short left = (short) ((chunk[b] & 0xFF) | (chunk[b + 1] << 8));
+                        short right = channels > 1 ? (short) ((chunk[b + 2] & 0xFF) | (chunk[b + 3] << 8)) : left;
+                        feed(left, right);
+                    }
+                    if (n < chunk.length) {
+                        in.close();
+                        if (!loop) break;
+                        open();
+                    }
+                }
+            } catch (IOException | UnsupportedAudioFileException e) {
+                System.err.println("Error streaming " + file + ": " + e.getMessage());
+            } finally {
+                finished = true;
+                try {
+                    in.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+
+        // Resample linear ke 44.1 kHz, satu frame sumber per panggilan
+        private void feed(short left, short right) {
+            if (sourceFrame == 0) {
+                prevLeft = left;
+                prevRight = right;
+            }
+            while (position <= sourceFrame && !closed) {
+                double t = position - (sourceFrame - 1);
+                put((short) Math.round(prevLeft + (left - prevLeft) * t), (short) Math.round(prevRight + (right - prevRight) * t));
+                position += step;
+            }
+            prevLeft = left;
+            prevRight = right;
+            sourceFrame++;
+        }
+
+        private void put(short left, short right) {
+            while (written - read > RING - 2 && !closed) LockSupport.parkNanos(2_000_000L);
+            int i = (int) (written & (RING - 1));
+            ring[i] = left;
+            ring[i + 1] = right;
+            written += 2;
+        }
+
+        /** Dari thread audio: salin maksimal frames frame ke dst; kurang dari itu jika buffer kosong. */
+        int take(short[] dst, int frames) {
+            int count = (int) Math.min(frames * 2L, written - read);
+            int start = (int) (read & (RING - 1));
+            int first = Math.min(count, RING - start);
+            System.arraycopy(ring, start, dst, 0, first);
+            System.arraycopy(ring, 0, dst, first, count - first);
+            read += count;
+            return count / 2;
+        }
+
+        boolean isDrained() { return finished && written == read; }
+
+        /** Menghentikan pembaca, termasuk yang sedang menunggu ring buffer kosong. */
+        void close() {
+            closed = true;
+            Thread t = reader;
+            if (t != null) LockSupport.unpark(t);
+        }
+    }
+
+    // Hanya disentuh thread audio
+    private static final class Voice {
+        Sample sample;
+        Stream stream;
+        int position; // frame berikutnya (sample)
+        float gain;
+        float fade = 1f, fadeStep; // pengali fade saat ini dan perubahannya per frame
+        boolean loop;
+        int id;       // 0 = voice kosong
+        long startedAt;
+
+        void release() {
+            if (stream != null) stream.close();
+            stream = null;
+            sample = null;
+            id = 0;
+        }
+    }
+
+    private final int bufferFrames;
+    private final Voice[] voices = new Voice[MAX_VOICES];
+    private final ConcurrentLinkedQueue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final Set<Stream> streams = ConcurrentHashMap.newKeySet(); // pembaca yang masih hidup
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final float[] mix;
+    private final byte[] out;
+    private final short[] scratch;
+    private volatile float masterGain = 1f;
+    private volatile boolean running;
+    private long blocks;
+    private SourceDataLine line;
+    private final String threadName;
+    private Thread thread;
+
+    /** threadName: nama thread audio, supaya mudah dikenali di thread dump tiap game. */
+    public SoftwareMixer(int bufferFrames, String threadName) {
+        if (bufferFrames < 64) throw new IllegalArgumentException("Buffer too small: " + bufferFrames);
+        this.bufferFrames = bufferFrames;
+        this.threadName = threadName;
+        this.mix = new float[bufferFrames * 2];
+        this.out = new byte[bufferFrames * 4];
+        this.scratch = new short[bufferFrames * 2];
+        for (int i = 0; i < voices.length; i++) voices[i] = new Voice();
+    }
+
+    public int getBufferFrames() { return bufferFrames; }
+    public boolean isRunning() { return running; }
+
+    /** Membuka line audio dan memulai thread mixer; false jika tidak ada perangkat audio. */
+    public synchronized boolean start() {
+        if (running) return true;
+        try {
+            line = AudioSystem.getSourceDataLine(FORMAT);
+            // Dua blok di line: satu diputar, satu sedang diisi
+            line.open(FORMAT, out.length * 2);
+            line.start();
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("Audio line unavailable: " + e.getMessage());
+            line = null;
+            return false;
+        }
+        running = true;
+        thread = new Thread(this::run, threadName);
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+        return true;
+    }
+
+    public synchronized void close() {
+        if (!running) return;
+        running = false;
+        // Line baru dilepas setelah thread audio selesai menulis blok terakhirnya
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        line.drain();
+        line.stop();
+        line.close();
+        for (Voice v : voices) v.release();
+        // Stream yang perintahnya masih di antrean tidak akan pernah dimainkan
+        commands.clear();
+        for (Stream s : streams) s.close();
+    }
+
+    /**
+     * Memainkan sampel; mengembalikan id voice untuk stop/setGain, atau 0 jika mixer tidak jalan.
+     * Jika semua voice terpakai, voice non-loop yang paling lama dicuri.
+     */
+    public int play(Sample sample, float gain, boolean loop) {
+        if (!running || sample.frames() == 0) return 0;
+        int id = nextId.incrementAndGet() & Integer.MAX_VALUE;
+        if (id == 0) id = nextId.incrementAndGet();
+        int voiceId = id;
+        commands.add(() -> {
+            Voice v = freeVoice();
+            v.release();
+            v.sample = sample;
+            v.position = 0;
+            v.gain = gain;
+            v.fade = 1f;
+            v.fadeStep = 0f;
+            v.loop = loop;
+            v.id = voiceId;
+            v.startedAt = blocks;
+        });
+        return id;
+    }
+
+    /**
+     * Memutar file secara streaming (untuk musik latar), dengan fade-in fadeInFrames frame.
+     * Hanya potongan kecil file yang ada di memori pada satu waktu.
+     */
+    public int playStream(File file, float gain, boolean loop, int fadeInFrames)
+            throws IOException, UnsupportedAudioFileException {
+        if (!running) return 0;
+        Stream stream = new Stream(file, loop);
+        streams.add(stream);
+        Thread reader = new Thread(() -> {
+            try {
+                stream.run();
+            } finally {
+                streams.remove(stream);
+            }
+        }, "audio-stream-" + file.getName());
+        reader.setDaemon(true);
+        reader.start();
+        if (!running) {
+            // close() berjalan bersamaan dan mungkin sudah melewati stream ini
+            stream.close();
+            return 0;
+        }
+        int id = nextId.incrementAndGet() & Integer.MAX_VALUE;
+        if (id == 0) id = nextId.incrementAndGet();
+        int voiceId = id;
+        commands.add(() -> {
+            if (!running) {
+                stream.close();
+                return;
+            }
+            Voice v = freeVoice();
+            v.release();
+            v.stream = stream;
+            v.gain = gain;
+            v.fade = fadeInFrames > 0 ? 0f : 1f;
+            v.fadeStep = fadeInFrames > 0 ? 1f / fadeInFrames : 0f;
+            v.loop = loop;
+            v.id = voiceId;
+            v.startedAt = blocks;
+        });
+        return id;
+    }
+
+    public void stop(int id) {
+        if (id != 0) commands.add(() -> {
+            Voice v = find(id);
+            if (v != null) v.release();
+        });
+    }
+
+    /** Menurunkan volume voice ke nol dalam frames frame lalu menghentikannya (untuk crossfade). */
+    public void fadeOut(int id, int frames) {
+        if (id != 0) commands.add(() -> {
+            Voice v = find(id);
+            if (v == null) return;
+            if (frames <= 0 || v.fade <= 0f) v.release();
+            else v.fadeStep = -v.fade / frames;
+        });
+    }
+
+    public static int framesFor(int millis) {
+        return (int) (FORMAT.getSampleRate() * millis / 1000);
+    }
+
+    public void setGain(int id, float gain) {
+        if (id != 0) commands.add(() -> {
+            Voice v = find(id);
+            if (v != null) v.gain = gain;
+        });
+    }
+
+    public void setMasterGain(float gain) {
+        this.masterGain = Math.max(0f, gain);
+    }
+
+    public float getMasterGain() { return masterGain; }
+
+    private void run() {
+        while (running) {
+            render();
+            line.write(out, 0, out.length); // blocking: thread ini dipacu oleh kecepatan line
+        }
+    }
+
+    /** Satu blok: jalankan perintah tertunda, campur semua voice ke out. */
+    private void render() {
+        Runnable command;
+        while ((command = commands.poll()) != null) command.run();
+        java.util.Arrays.fill(mix, 0f);
+        for (Voice v : voices) {
+            if (v.id != 0) mixVoice(v);
+        }
+        float master = masterGain;
+        for (int i = 0, b = 0; i < mix.length; i++, b += 2) {
+            int s = Math.round(mix[i] * master);
+            if (s > Short.MAX_VALUE) s = Short.MAX_VALUE;
+            else if (s < Short.MIN_VALUE) s = Short.MIN_VALUE;
+            out[b] = (byte) s;
+            out[b + 1] = (byte) (s >> 8);
+        }
+        blocks++;
+    }
+
+    private void mixVoice(Voice v) {
+        int frames = v.stream != null ? v.stream.take(scratch, bufferFrames) : fillFromSample(v);
+        float gain = v.gain;
+        for (int f = 0; f < frames; f++) {
+            float g = gain;
+            if (v.fadeStep != 0f) {
+                v.fade += v.fadeStep;
+                if (v.fade >= 1f) {
+                    v.fade = 1f;
+                    v.fadeStep = 0f;
+                } else if (v.fade <= 0f) {
+                    v.release();
+                    return;
+                }
+                g *= v.fade;
+            } else if (v.fade != 1f) {
+                g *= v.fade;
+            }
+            mix[2 * f] += scratch[2 * f] * g;
+            mix[2 * f + 1] += scratch[2 * f + 1] * g;
+        }
+        // Stream yang kurang data hanya menghasilkan jeda sesaat; yang sudah habis dilepas
+        if (v.stream != null ? v.stream.isDrained() : v.sample == null) v.release();
+    }
+
+    // Salin potongan sample ke scratch; sample non-loop yang habis ditandai dengan sample = null
+    private int fillFromSample(Voice v) {
+        short[] data = v.sample.data;
+        int frames = data.length / 2;
+        int frame = 0;
+        while (frame < bufferFrames) {
+            int count = Math.min(bufferFrames - frame, frames - v.position);
+            System.arraycopy(data, v.position * 2, scratch, frame * 2, count * 2);
+            frame += count;
+            v.position += count;
+            if (v.position == frames) {
+                if (!v.loop) {
+                    v.sample = null;
+                    break;
+                }
+                v.position = 0;
+            }
+        }
+        return frame;
+    }
+
+    private Voice freeVoice() {
+        Voice oldest = null;
+        for (Voice v : voices) {
+            if (v.id == 0) return v;
+            if (!v.loop && v.stream == null && (oldest == null || v.startedAt < oldest.startedAt)) oldest = v;
+        }
+        return oldest != null ? oldest : voices[0];
+    }
+
+    private Voice find(int id) {
+        for (Voice v : voices) {
+            if (v.id == id) return v;
+        }
+        return null;
+    }
+
+    /** Decode file audio (WAV/AIFF/AU) ke FORMAT mixer, termasuk konversi kanal dan sample rate. */
+    public static Sample load(File file) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream in = AudioSystem.getAudioInputStream(file)) {
+            AudioFormat source = in.getFormat();
+            int channels = source.getChannels();
+            AudioFormat pcm16 = new AudioFormat(source.getSampleRate(), 16, channels, true, false);
+            AudioInputStream pcm = AudioSystem.getAudioInputStream(pcm16, in);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = pcm.read(buffer)) > 0) bytes.write(buffer, 0, n);
+            byte[] raw = bytes.toByteArray();
+            int frames = raw.length / (2 * channels);
+
+            // Ambil dua kanal pertama (mono diduplikasi), lalu resample linear ke 44.1 kHz
+            short[] left = new short[frames], right = new short[frames];
+            for (int f = 0; f < frames; f++) {
+                int b = f * 2 * channels;
+                left[f] = (short) ((raw[b] & 0xFF) | (raw[b + 1] << 8));
+                right[f] = channels > 1 ? (short) ((raw[b + 2] & 0xFF) | (raw[b + 3] << 8)) : left[f];
+            }
+            return new Sample(resample(left, right, source.getSampleRate()));
+        }
+    }
+
+    static short[] resample(short[] left, short[] right, float sourceRate) {
+        int frames = left.length;
+        if (frames == 0) return new short[0];
+        double step = sourceRate / FORMAT.getSampleRate();
+        int outFrames = Math.max(1, (int) Math.floor((frames - 1) / step) + 1);
+        short[] data = new short[outFrames * 2];
+        for (int f = 0; f < outFrames; f++) {
+            double pos = f * step;
+            int i = (int) pos;
+            int j = Math.min(i + 1, frames - 1);
+            double t = pos - i;
+            data[2 * f] = (short) Math.round(left[i] + (left[j] - left[i]) * t);
+            data[2 * f + 1] = (short) Math.round(right[i] + (right[j] - right[i]) * t);
+        }
+        return data;
+    }
+}
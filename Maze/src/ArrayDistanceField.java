@@ -0,0 +1,201 @@
+import java.util.*;
+
+// DistanceField di memori: jarak dan next hop per sel dalam array. Bisa diperbaiki
+// incremental setelah maze diedit (lihat repair), jadi cache solver tidak perlu dibangun ulang.
+public class ArrayDistanceField extends DistanceField {
+    // repair() beralih ke build ulang penuh jika lebih dari 1/REBUILD_FRACTION sel terdampak;
+    // Dijkstra dari banyak seed lebih lambat per sel daripada build dari exit
+    private static final int REBUILD_FRACTION = 4;
+
+    private final int[] dist;
+    private final int[] next;
+
+    private ArrayDistanceField(MazeGrid grid, boolean weighted) {
+        super(grid, weighted);
+        this.dist = new int[grid.size()];
+        this.next = new int[grid.size()];
+        Arrays.fill(dist, UNREACHABLE);
+        Arrays.fill(next, -1);
+    }
+
+    static ArrayDistanceField build(MazeGrid grid, boolean weighted) {
+        ArrayDistanceField field = new ArrayDistanceField(grid, weighted);
+        if (weighted) field.buildDijkstra();
+        else field.buildBFS();
+        return field;
+    }
+
+    static ArrayDistanceField copy(DistanceField source, MazeGrid grid) {
+        ArrayDistanceField field = new ArrayDistanceField(grid, source.isWeighted());
+        for (int i = 0; i < grid.size(); i++) {
+            field.dist[i] = source.distance(i);
+            field.next[i] = source.nextHop(i);
+        }
+        return field;
+    }
+
+    private void buildBFS() {
+        int[] queue = new int[grid.size()];
+        int head = 0, tail = 0;
+        int exit = grid.exitIndex();
+        dist[exit] = 0;
+        queue[tail++] = exit;
+        while (head < tail) {
+            MazeSolver.checkCancelled(head);
+            int cell = queue[head++];
+            for (int dir = 0; dir < 4; dir++) {
+                int neighbor = grid.passage(cell, dir);
+                if (neighbor >= 0 && dist[neighbor] == UNREACHABLE) {
+                    dist[neighbor] = dist[cell] + 1;
+                    next[neighbor] = cell;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+    }
+
+    // Biaya langkah neighbor -> cell adalah biaya sel yang dimasuki (cell),
+    // sama seperti pencarian maju di MazeSolver.
+    private void buildDijkstra() {
+        IntMinHeap pq = new IntMinHeap(1024);
+        boolean[] closed = new boolean[grid.size()];
+        int exit = grid.exitIndex();
+        dist[exit] = 0;
+        pq.push(exit, 0);
+        int steps = 0;
+        while (!pq.isEmpty()) {
+            MazeSolver.checkCancelled(++steps);
+            int cell = pq.pop();
+            if (closed[cell]) continue;
+            closed[cell] = true;
+            int stepCost = dist[cell] + grid.cost(cell);
+            for (int dir = 0; dir < 4; dir++) {
+                int neighbor = grid.passage(cell, dir);
+                if (neighbor >= 0 && stepCost < dist[neighbor]) {
+                    dist[neighbor] = stepCost;
+                    next[neighbor] = cell;
+                    pq.push(neighbor, stepCost);
+                }
+            }
+        }
+    }
+
+    /**
+     * Memperbaiki field setelah dinding atau tipe sel di cells[0..count) berubah, tanpa
+     * membangun ulang. Langkah yang menjadi lebih mahal atau tertutup: subtree pohon next[]
+     * di bawahnya dihapus lalu diisi ulang dari tetangga yang masih valid (Ramalingam-Reps).
+     * Langkah yang menjadi lebih murah: cukup dirambatkan Dijkstra dari sel yang membaik.
+     * Untuk edit dinding, kedua sel di sisi dinding harus ada di cells. Edit yang mengenai
+     * sebagian besar pohon (mis. sel di samping exit) dibangun ulang penuh.
+     * Mengembalikan jumlah sel yang jaraknya dihitung ulang.
+     */
+    public int repair(int[] cells, int count) {
+        int exit = grid.exitIndex();
+        int limit = grid.size() / REBUILD_FRACTION;
+
+        // Hanya langkah dari sel berubah dan tetangganya yang bisa berubah biayanya
+        int[] candidates = new int[count * 5];
+        int candidateCount = 0;
+        for (int k = 0; k < count; k++) {
+            candidates[candidateCount++] = cells[k];
+            for (int dir = 0; dir < 4; dir++) {
+                int n = grid.neighbor(cells[k], dir);
+                if (n >= 0) candidates[candidateCount++] = n;
+            }
+        }
+
+        // 1. Hapus subtree sel yang langkah next-nya kini tertutup atau lebih mahal
+        int[] affected = new int[16];
+        int affectedCount = 0;
+        int[] stack = new int[16];
+        for (int k = 0; k < candidateCount; k++) {
+            int u = candidates[k];
+            if (u == exit || dist[u] == UNREACHABLE) continue;
+            int n = next[u];
+            if (isPassage(u, n) && dist[n] != UNREACHABLE && dist[n] + stepCost(n) <= dist[u]) continue;
+            int top = 0;
+            stack[top++] = u;
+            while (top > 0) {
+                int x = stack[--top];
+                if (dist[x] == UNREACHABLE) continue;
+                dist[x] = UNREACHABLE;
+                next[x] = -1;
+                if (affectedCount == affected.length) affected = Arrays.copyOf(affected, affectedCount * 2);
+                affected[affectedCount++] = x;
+                if (affectedCount > limit) return rebuild();
+                for (int dir = 0; dir < 4; dir++) {
+                    int child = grid.neighbor(x, dir);
+                    if (child < 0 || next[child] != x) continue;
+                    if (top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+                    stack[top++] = child;
+                }
+            }
+        }
+
+        // 2. Isi ulang dari tetangga yang valid; sel yang membaik karena langkah lebih murah juga masuk
+        IntMinHeap pq = new IntMinHeap(64);
+        seed(candidates, candidateCount, pq);
+        seed(affected, affectedCount, pq);
+
+        // 3. Rambatkan perbaikan seperti Dijkstra biasa
+        int touched = affectedCount;
+        int steps = 0;
+        while (!pq.isEmpty()) {
+            MazeSolver.checkCancelled(++steps);
+            int key = pq.peekPriority();
+            int cell = pq.pop();
+            if (key != dist[cell]) continue;
+            if (++touched > 2 * limit) return rebuild();
+            int cost = dist[cell] + stepCost(cell);
+            for (int dir = 0; dir < 4; dir++) {
+                int neighbor = grid.passage(cell, dir);
+                if (neighbor >= 0 && cost < dist[neighbor]) {
+                    dist[neighbor] = cost;
+                    next[neighbor] = cell;
+                    pq.push(neighbor, cost);
+                }
+            }
+        }
+        return touched;
+    }
+
+    private int rebuild() {
+        Arrays.fill(dist, UNREACHABLE);
+        Arrays.fill(next, -1);
+        if (isWeighted()) buildDijkstra();
+        else buildBFS();
+        return grid.size();
+    }
+
+    private void seed(int[] cells, int count, IntMinHeap pq) {
+        int exit = grid.exitIndex();
+        for (int k = 0; k < count; k++) {
+            int u = cells[k];
+            if (u == exit) continue;
+            for (int dir = 0; dir < 4; dir++) {
+                int n = grid.passage(u, dir);
+                if (n < 0 || dist[n] == UNREACHABLE) continue;
+                int d = dist[n] + stepCost(n);
+                if (d < dist[u]) {
+                    dist[u] = d;
+                    next[u] = n;
+                    pq.push(u, d);
+                }
+            }
+        }
+    }
+
+    private boolean isPassage(int from, int to) {
+        if (to < 0) return false;
+        for (int dir = 0; dir < 4; dir++) {
+            if (grid.passage(from, dir) == to) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int distance(int index) { return dist[index]; }
+
+    @Override
+    public int nextHop(int index) { return next[index]; }
+}
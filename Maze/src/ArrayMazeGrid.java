@@ -0,0 +1,48 @@
+import java.util.Arrays;
+
+// MazeGrid di memori yang bisa diedit: satu byte dinding dan satu byte tipe per sel.
+public class ArrayMazeGrid extends MazeGrid {
+    private final byte[] walls; // 4 bit bawah: top, right, bottom, left
+    private final byte[] types; // ordinal Cell.CellType
+
+    public ArrayMazeGrid(int rows, int cols) {
+        super(rows, cols);
+        this.walls = new byte[size()];
+        this.types = new byte[size()];
+        Arrays.fill(walls, (byte) ALL_WALLS);
+    }
+
+    /** Salinan yang bisa diedit, mis. dari MappedMazeGrid yang read-only. */
+    public ArrayMazeGrid(MazeGrid source) {
+        this(source.getRows(), source.getCols());
+        for (int i = 0; i < size(); i++) {
+            walls[i] = (byte) source.wallMask(i);
+            types[i] = (byte) source.typeOrdinal(i);
+        }
+    }
+
+    @Override
+    public int wallMask(int index) { return walls[index]; }
+
+    @Override
+    public int typeOrdinal(int index) { return types[index]; }
+
+    @Override
+    public void openPassage(int index, int dir) {
+        int other = neighbor(index, dir);
+        if (other < 0) return;
+        walls[index] &= (byte) ~(1 << dir);
+        walls[other] &= (byte) ~(1 << ((dir + 2) % 4));
+    }
+
+    @Override
+    public void closePassage(int index, int dir) {
+        int other = neighbor(index, dir);
+        if (other < 0) return;
+        walls[index] |= (byte) (1 << dir);
+        walls[other] |= (byte) (1 << ((dir + 2) % 4));
+    }
+
+    @Override
+    public void setType(int index, Cell.CellType type) { types[index] = (byte) type.ordinal(); }
+}
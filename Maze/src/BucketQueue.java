@@ -0,0 +1,79 @@
+import java.util.Arrays;
+
+// Bucket queue (algoritma Dial) untuk bobot integer kecil. Selama semua priority yang
+// ada di antrean berada di [min, min + span), cukup span bucket melingkar: push, pop
+// dan decrease-key O(1). Setiap bucket adalah linked list ganda lewat array next/prev,
+// jadi satu node hanya pernah ada satu kali di antrean.
+public class BucketQueue implements IntPriorityQueue {
+    private final int[] head;     // node pertama per bucket, -1 = kosong
+    private final int[] next, prev;
+    private final int[] key;      // priority node selama ada di antrean
+    private final boolean[] queued;
+    private final int mask;
+    private int size, cursor;     // cursor = priority terkecil yang mungkin masih ada
+
+    /**
+     * @param nodes jumlah node (index 0..nodes-1)
+     * @param span selisih maksimum antara priority terbesar dan terkecil di antrean, plus satu
+     */
+    public BucketQueue(int nodes, int span) {
+        int buckets = Integer.highestOneBit(Math.max(2, span - 1) * 2);
+        head = new int[buckets];
+        mask = buckets - 1;
+        Arrays.fill(head, -1);
+        next = new int[nodes];
+        prev = new int[nodes];
+        key = new int[nodes];
+        queued = new boolean[nodes];
+    }
+
+    public void push(int node, int priority) {
+        if (queued[node]) {
+            if (priority >= key[node]) return;
+            unlink(node);
+        } else {
+            queued[node] = true;
+            size++;
+        }
+        if (size == 1 || priority < cursor) cursor = priority;
+        key[node] = priority;
+        int b = priority & mask;
+        prev[node] = -1;
+        next[node] = head[b];
+        if (head[b] >= 0) prev[head[b]] = node;
+        head[b] = node;
+    }
+
+    public int pop() {
+        while (head[cursor & mask] < 0) cursor++;
+        int node = head[cursor & mask];
+        unlink(node);
+        queued[node] = false;
+        size--;
+        return node;
+    }
+
+    public int peekPriority() {
+        while (head[cursor & mask] < 0) cursor++;
+        return cursor;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+
+    /** Mengosongkan antrean; biayanya sebanding dengan isi antrean, bukan jumlah node. */
+    public void clear() {
+        for (int b = 0; b < head.length; b++) {
+            for (int node = head[b]; node >= 0; node = next[node]) queued[node] = false;
+            head[b] = -1;
+        }
+        size = 0;
+    }
+
+    private void unlink(int node) {
+        int b = key[node] & mask;
+        if (prev[node] >= 0) next[prev[node]] = next[node];
+        else head[b] = next[node];
+        if (next[node] >= 0) prev[next[node]] = prev[node];
+    }
+}
@@ -1,44 +1,50 @@
 import java.awt.*;
 
+// View ringan di atas MazeGrid untuk lapisan Swing; data asli ada di grid.
 public class Cell {
-    private int row, col;
-    private boolean visited;
-    private boolean[] walls = {true, true, true, true}; // top, right, bottom, left
-    private CellType type;
+    private final MazeGrid grid;
+    private final int row, col;
 
     public enum CellType {
-        GRASS(1, new Color(144, 238, 144)),
-        MUD(5, new Color(139, 90, 43)),
-        WATER(10, new Color(100, 149, 237));
+        GRASS(1, 0x90EE90),
+        MUD(5, 0x8B5A2B),
+        WATER(10, 0x6495ED);
 
         private final int cost;
-        private final Color color;
+        private final int rgb;
+        private Color color; // dibuat saat dibutuhkan agar mode headless tidak memuat AWT
 
-        CellType(int cost, Color color) {
+        CellType(int cost, int rgb) {
             this.cost = cost;
-            this.color = color;
+            this.rgb = rgb;
         }
 
         public int getCost() { return cost; }
-        public Color getColor() { return color; }
+        public int getRgb() { return rgb; }
+        public Color getColor() {
+            if (color == null) color = new Color(rgb);
+            return color;
+        }
     }
 
-    public Cell(int row, int col) {
+    public Cell(MazeGrid grid, int row, int col) {
+        this.grid = grid;
         this.row = row;
         this.col = col;
-        this.visited = false;
-        this.type = CellType.GRASS;
     }
 
     public int getRow() { return row; }
     public int getCol() { return col; }
-    public boolean isVisited() { return visited; }
-    public void setVisited(boolean visited) { this.visited = visited; }
-    public boolean[] getWalls() { return walls; }
-    public void removeWall(int direction) { walls[direction] = false; }
-    public CellType getType() { return type; }
-    public void setType(CellType type) { this.type = type; }
-    public int getCost() { return type.getCost(); }
+    public int getIndex() { return grid.index(row, col); }
+    public boolean hasWall(int direction) { return grid.hasWall(getIndex(), direction); }
+    public boolean[] getWalls() {
+        int idx = getIndex();
+        return new boolean[] {grid.hasWall(idx, 0), grid.hasWall(idx, 1), grid.hasWall(idx, 2), grid.hasWall(idx, 3)};
+    }
+    public void removeWall(int direction) { grid.openPassage(getIndex(), direction); }
+    public CellType getType() { return grid.getType(getIndex()); }
+    public void setType(CellType type) { grid.setType(getIndex(), type); }
+    public int getCost() { return grid.cost(getIndex()); }
 
     @Override
     public boolean equals(Object obj) {
@@ -50,6 +56,6 @@ public class Cell {
 
     @Override
     public int hashCode() {
-        return row * 1000 + col;
+        return 31 * row + col;
     }
 }
\ No newline at end of file
@@ -10,11 +10,32 @@ public class ControlPanel extends JPanel {
         genBtn.addActionListener(e -> mazePanel.generateNewMaze());
         add(genBtn);
 
+        JComboBox<String> generatorBox = new JComboBox<>(MazeGenerator.STRATEGIES);
+        generatorBox.setFont(new Font("Arial", Font.BOLD, 12));
+        generatorBox.setFocusable(false);
+        generatorBox.addActionListener(e -> mazePanel.setGenerationStrategy((String) generatorBox.getSelectedItem()));
+        add(generatorBox);
+
+        JButton saveBtn = createButton("💾 Save", new Color(95, 95, 110));
+        saveBtn.addActionListener(e -> {
+            JFileChooser chooser = new JFileChooser();
+            if (chooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) mazePanel.saveMaze(chooser.getSelectedFile());
+        });
+        add(saveBtn);
+
+        JButton loadBtn = createButton("📂 Load", new Color(95, 95, 110));
+        loadBtn.addActionListener(e -> {
+            JFileChooser chooser = new JFileChooser();
+            if (chooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) mazePanel.loadMaze(chooser.getSelectedFile());
+        });
+        add(loadBtn);
+
         add(new JLabel(" | ") {{ setForeground(Color.GRAY); }});
 
-        String[] algos = {"BFS", "DFS", "Dijkstra", "A*"};
+        String[] algos = MazeSolver.ALGORITHMS;
         Color[] colors = {new Color(34, 139, 34), new Color(184, 134, 11),
-                new Color(220, 20, 60), new Color(138, 43, 226)};
+                new Color(220, 20, 60), new Color(138, 43, 226),
+                new Color(0, 139, 139), new Color(199, 21, 133), new Color(106, 90, 205)};
 
         for (int i = 0; i < algos.length; i++) {
             JButton b = createButton(algos[i] + " Hint", colors[i]);
@@ -28,6 +49,37 @@ public class ControlPanel extends JPanel {
         JButton compareBtn = createButton("📊 Compare All", new Color(255, 165, 0));
         compareBtn.addActionListener(e -> mazePanel.compareAllAlgorithms());
         add(compareBtn);
+
+        JButton exportBtn = createButton("📄 Export Stats", new Color(95, 95, 110));
+        exportBtn.addActionListener(e -> {
+            JFileChooser chooser = new JFileChooser();
+            chooser.setSelectedFile(new java.io.File("comparison.csv"));
+            if (chooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) mazePanel.exportComparison(chooser.getSelectedFile());
+        });
+        add(exportBtn);
+
+        add(new JLabel(" | ") {{ setForeground(Color.GRAY); }});
+
+        JComboBox<Integer> agentBox = new JComboBox<>(new Integer[] {100, 500, 2000, 10000});
+        agentBox.setFont(new Font("Arial", Font.BOLD, 12));
+        agentBox.setFocusable(false);
+        add(agentBox);
+
+        JButton crowdBtn = createButton("👥 Crowd", new Color(205, 133, 63));
+        crowdBtn.addActionListener(e -> mazePanel.toggleCrowd((Integer) agentBox.getSelectedItem()));
+        add(crowdBtn);
+
+        add(new JLabel(" | ") {{ setForeground(Color.GRAY); }});
+
+        String[] brushes = new String[MazePanel.EDIT_BRUSHES.length + 1];
+        brushes[0] = "✏ Edit off";
+        System.arraycopy(MazePanel.EDIT_BRUSHES, 0, brushes, 1, MazePanel.EDIT_BRUSHES.length);
+        JComboBox<String> brushBox = new JComboBox<>(brushes);
+        brushBox.setFont(new Font("Arial", Font.BOLD, 12));
+        brushBox.setFocusable(false);
+        brushBox.addActionListener(e -> mazePanel.setEditBrush(
+                brushBox.getSelectedIndex() == 0 ? null : (String) brushBox.getSelectedItem()));
+        add(brushBox);
     }
 
     private JButton createButton(String text, Color bgColor) {
@@ -0,0 +1,240 @@
+import java.util.*;
+
+// Graf hasil kontraksi koridor. Cabang buntu dipangkas dulu (tidak pernah dilewati jalur
+// terpendek ke exit), lalu di sisa maze node = sel dengan derajat != 2 ditambah exit, dan
+// setiap rangkaian sel berderajat 2 di antaranya menjadi satu edge berbobot.
+// Pencarian berjalan di graf kecil ini, jalur sel lengkap baru dibentuk di akhir.
+public class CorridorGraph {
+    private static final byte CORE = -1;
+
+    private final MazeGrid grid;
+    private final byte[] toCore;    // sel di cabang buntu: arah menuju inti, CORE untuk sel inti
+    private final int[] nodeOf;     // index sel -> id node, -1 untuk sel di tengah koridor
+    private final int[] cellOf;     // id node -> index sel
+    private final int[] edgeStart;  // edge milik node k ada di [edgeStart[k], edgeStart[k + 1])
+    private final int[] edgeFrom, edgeTarget;
+    private final int[] edgeCost;   // jumlah biaya sel yang dimasuki (tanpa sel asal)
+    private final int[] edgeSteps;  // jumlah langkah di sepanjang koridor
+    private final byte[] edgeDir;   // arah langkah pertama dari sel asal, untuk membentuk ulang jalur
+    private final WorkspacePool workspaces;
+
+    public CorridorGraph(MazeGrid grid) {
+        this.grid = grid;
+        int size = grid.size();
+        int exit = grid.exitIndex();
+        toCore = new byte[size];
+        java.util.Arrays.fill(toCore, CORE);
+
+        // Pangkas jalan buntu berulang kali; nodeOf sementara dipakai sebagai derajat dan antrean
+        nodeOf = new int[size];
+        int[] queue = new int[size];
+        int head = 0, tail = 0;
+        for (int i = 0; i < size; i++) {
+            nodeOf[i] = degree(i);
+            if (nodeOf[i] == 1 && i != exit) queue[tail++] = i;
+        }
+        while (head < tail) {
+            MazeSolver.checkCancelled(head);
+            int cell = queue[head++];
+            for (int dir = 0; dir < 4; dir++) {
+                int next = grid.passage(cell, dir);
+                if (next < 0 || toCore[next] != CORE) continue;
+                toCore[cell] = (byte) dir;
+                if (--nodeOf[next] == 1 && next != exit) queue[tail++] = next;
+                break;
+            }
+        }
+
+        int nodes = 0, edges = 0;
+        for (int i = 0; i < size; i++) {
+            MazeSolver.checkCancelled(i);
+            if (toCore[i] != CORE) {
+                nodeOf[i] = -1;
+                continue;
+            }
+            int degree = nodeOf[i];
+            if (degree != 2 || i == exit) {
+                nodeOf[i] = nodes++;
+                edges += degree;
+            } else {
+                nodeOf[i] = -1;
+            }
+        }
+
+        cellOf = new int[nodes];
+        edgeStart = new int[nodes + 1];
+        edgeFrom = new int[edges];
+        edgeTarget = new int[edges];
+        edgeCost = new int[edges];
+        edgeSteps = new int[edges];
+        edgeDir = new byte[edges];
+
+        int e = 0;
+        for (int i = 0; i < size; i++) {
+            int node = nodeOf[i];
+            if (node < 0) continue;
+            cellOf[node] = i;
+            edgeStart[node] = e;
+            for (int dir = 0; dir < 4; dir++) {
+                int next = grid.passage(i, dir);
+                if (next < 0 || toCore[next] != CORE) continue;
+                // Susuri koridor sampai bertemu node berikutnya (selalu ada: dimulai dari node)
+                int prev = i, cost = 0, steps = 0;
+                while (true) {
+                    cost += grid.cost(next);
+                    if (++steps > size) throw new IllegalStateException("Corridor from " + i + " never reaches a node");
+                    if (nodeOf[next] >= 0) break;
+                    int after = otherExit(next, prev);
+                    prev = next;
+                    next = after;
+                }
+                edgeFrom[e] = node;
+                edgeTarget[e] = nodeOf[next];
+                edgeCost[e] = cost;
+                edgeSteps[e] = steps;
+                edgeDir[e] = (byte) dir;
+                e++;
+            }
+        }
+        edgeStart[nodes] = e;
+        // Satu slot tambahan untuk start yang berada di tengah koridor
+        workspaces = new WorkspacePool(cellOf.length + 1);
+    }
+
+    public int nodeCount() { return cellOf.length; }
+    public int edgeCount() { return edgeStart[cellOf.length]; }
+
+    /** Pool workspace seukuran graf ini; MazeSolver meminjam dari sini agar bisa membaca statistik. */
+    WorkspacePool workspaces() { return workspaces; }
+
+    /**
+     * Jalur terpendek dari start ke exit dengan workspace dari workspaces(). weighted = false
+     * memakai jumlah langkah sebagai bobot (setara BFS di grid asli); useHeuristic menambahkan
+     * jarak Manhattan seperti A*. Dipanggil lewat MazeSolver.search("Corridor-...").
+     */
+    List<Cell> solve(SearchWorkspace ws, int start, boolean weighted, boolean useHeuristic) {
+        ws.begin();
+        IntMinHeap pq = ws.heap;
+        int end = grid.exitIndex();
+
+        // Start di cabang buntu: satu-satunya jalan adalah keluar menuju inti
+        List<Cell> path = new ArrayList<>();
+        while (toCore[start] != CORE) {
+            path.add(grid.cellAt(start));
+            start = grid.neighbor(start, toCore[start]);
+        }
+
+        int source = cellOf.length; // id virtual untuk start di tengah koridor
+        int[] startDirs = new int[2];
+
+        if (nodeOf[start] >= 0) {
+            source = nodeOf[start];
+            ws.discover(source, -1, 0);
+            pq.push(source, useHeuristic ? heuristic(start, end) : 0);
+            ws.queueOps++;
+        } else {
+            // Start di tengah koridor: dua edge virtual ke node di kedua ujungnya.
+            // Parent bernilai -2 - k menandai edge virtual ke-k.
+            ws.discover(source, -1, 0);
+            ws.close(source);
+            int k = 0;
+            for (int dir = 0; dir < 4; dir++) {
+                int next = grid.passage(start, dir);
+                if (next < 0 || toCore[next] != CORE) continue;
+                startDirs[k] = dir;
+                int prev = start, cost = 0;
+                while (true) {
+                    cost += weighted ? grid.cost(next) : 1;
+                    if (nodeOf[next] >= 0) break;
+                    // Start di lingkaran koridor tanpa node (terputus dari exit setelah edit): tidak ada jalur
+                    if (next == start) return new ArrayList<>();
+                    int after = otherExit(next, prev);
+                    prev = next;
+                    next = after;
+                }
+                int node = nodeOf[next];
+                if (cost < ws.distance(node)) {
+                    ws.discover(node, -2 - k, cost);
+                    pq.push(node, useHeuristic ? cost + heuristic(next, end) : cost);
+                    ws.queueOps++;
+                }
+                k++;
+            }
+        }
+
+        int target = nodeOf[end];
+        int steps = 0;
+        while (!pq.isEmpty()) {
+            MazeSolver.checkCancelled(++steps);
+            ws.frontier(pq.size());
+            int node = pq.pop();
+            ws.queueOps++;
+            if (ws.isClosed(node)) continue;
+            ws.close(node);
+            ws.expanded++;
+            if (node == target) return expand(ws.parent, start, startDirs, target, path);
+            int g = ws.dist[node];
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                int next = edgeTarget[e];
+                ws.relaxed++;
+                int tentativeG = g + (weighted ? edgeCost[e] : edgeSteps[e]);
+                if (tentativeG < ws.distance(next)) {
+                    ws.discover(next, e, tentativeG);
+                    pq.push(next, useHeuristic ? tentativeG + heuristic(cellOf[next], end) : tentativeG);
+                    ws.queueOps++;
+                }
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    // Bentuk ulang jalur sel: kumpulkan edge dari exit mundur ke start, lalu susuri tiap koridor
+    private List<Cell> expand(int[] parent, int start, int[] startDirs, int target, List<Cell> path) {
+        Deque<Integer> edges = new ArrayDeque<>();
+        int node = target;
+        while (parent[node] >= 0) {
+            edges.push(parent[node]);
+            node = edgeFrom[parent[node]];
+        }
+
+        path.add(grid.cellAt(start));
+        if (parent[node] != -1) walk(start, startDirs[-2 - parent[node]], path);
+        for (int e : edges) walk(cellOf[edgeFrom[e]], edgeDir[e], path);
+        return path;
+    }
+
+    // Tambahkan sel-sel koridor dari cell (tidak termasuk) sampai node berikutnya
+    private void walk(int cell, int dir, List<Cell> path) {
+        int prev = cell, next = grid.passage(cell, dir);
+        for (int steps = 1; ; steps++) {
+            path.add(grid.cellAt(next));
+            if (nodeOf[next] >= 0) return;
+            if (next == cell || steps > grid.size()) throw new IllegalStateException("Corridor from " + cell + " never reaches a node");
+            int after = otherExit(next, prev);
+            prev = next;
+            next = after;
+        }
+    }
+
+    private int degree(int cell) {
+        int degree = 0;
+        for (int dir = 0; dir < 4; dir++) {
+            if (grid.passage(cell, dir) >= 0) degree++;
+        }
+        return degree;
+    }
+
+    // Sel inti berderajat 2: satu-satunya jalan keluar selain dari arah kedatangan
+    private int otherExit(int cell, int from) {
+        for (int dir = 0; dir < 4; dir++) {
+            int next = grid.passage(cell, dir);
+            if (next >= 0 && next != from && toCore[next] == CORE) return next;
+        }
+        return from; // tidak terjadi pada sel berderajat 2
+    }
+
+    private int heuristic(int a, int b) {
+        int cols = grid.getCols();
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+}
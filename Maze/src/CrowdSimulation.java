@@ -0,0 +1,185 @@
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Banyak agen menuju exit bersamaan. Semua agen berbagi satu flow field (DistanceField
+// berbobot dari exit), jadi biaya per tick hanya O(jumlah agen), tidak ada pencarian per agen.
+// Tabrakan dicegah dengan tabel reservasi: satu agen per sel, agen diproses dari yang paling
+// dekat ke exit sehingga barisan di koridor bisa maju bersama dalam satu tick.
+// Masuk sel berbiaya c membuat agen menunggu c - 1 tick, sesuai model biaya solver.
+// Agen yang terputus dari exit oleh edit maze dihitung macet; simulasi selesai saat semua
+// agen yang tersisa macet, dan bisa dijalankan lagi jika edit berikutnya membuka jalan.
+public class CrowdSimulation {
+    private final MazeGrid grid;
+    private final DistanceField field;
+    private final int[] position;  // sel tiap agen, -1 = sudah sampai exit
+    private final int[] wait;      // sisa tick menunggu di sel berbiaya tinggi
+    private final int[] occupant;  // tabel reservasi: agen di sel, -1 = kosong
+    private final long[] order;    // (jarak << 32 | agen), diurutkan ulang setiap tick
+    private int active, arrived, stuck;
+    private long ticks, moves, blocked, tickNanos;
+    private long lastTickNanos;
+
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> running;
+
+    public CrowdSimulation(MazeGrid grid, DistanceField field, int agents, long seed) {
+        this.grid = grid;
+        this.field = field;
+        this.occupant = new int[grid.size()];
+        Arrays.fill(occupant, -1);
+
+        // Titik awal: sel acak berbeda yang bisa mencapai exit (bukan exit itu sendiri)
+        int exit = grid.exitIndex();
+        int[] candidates = new int[grid.size()];
+        int count = 0;
+        for (int i = 0; i < grid.size(); i++) {
+            if (i != exit && field.distance(i) != DistanceField.UNREACHABLE) candidates[count++] = i;
+        }
+        agents = Math.min(agents, count);
+        SplittableRandom random = new SplittableRandom(seed);
+        position = new int[agents];
+        wait = new int[agents];
+        order = new long[agents];
+        for (int a = 0; a < agents; a++) {
+            int pick = a + random.nextInt(count - a);
+            int cell = candidates[pick];
+            candidates[pick] = candidates[a];
+            position[a] = cell;
+            occupant[cell] = a;
+        }
+        active = agents;
+    }
+
+    public int agentCount() { return position.length; }
+
+    public synchronized int activeAgents() { return active; }
+    public synchronized int arrivedAgents() { return arrived; }
+    public synchronized int stuckAgents() { return stuck; }
+    public synchronized long getTicks() { return ticks; }
+    public synchronized long getMoves() { return moves; }
+    public synchronized long getBlocked() { return blocked; }
+    public synchronized long getLastTickNanos() { return lastTickNanos; }
+    public synchronized double getAverageTickNanos() { return ticks == 0 ? 0 : (double) tickNanos / ticks; }
+
+    public synchronized boolean isFinished() { return active == stuck; }
+
+    /** Salinan posisi agen yang masih berjalan, untuk digambar dari EDT. */
+    public synchronized int[] snapshot() {
+        int[] cells = new int[active];
+        int n = 0;
+        for (int cell : position) {
+            if (cell >= 0) cells[n++] = cell;
+        }
+        return cells;
+    }
+
+    /** Menjalankan perubahan maze (mis. MazeEditor.apply) di antara dua tick, bukan di tengahnya. */
+    public synchronized void betweenTicks(Runnable change) {
+        change.run();
+        countStuck();
+    }
+
+    /** Satu langkah simulasi. */
+    public synchronized void tick() {
+        if (active == 0) return;
+        long start = System.nanoTime();
+
+        int n = 0;
+        for (int a = 0; a < position.length; a++) {
+            if (position[a] >= 0) order[n++] = (long) field.distance(position[a]) << 32 | a;
+        }
+        Arrays.sort(order, 0, n);
+
+        int exit = grid.exitIndex();
+        for (int k = 0; k < n; k++) {
+            int a = (int) order[k];
+            if (wait[a] > 0) {
+                wait[a]--;
+                continue;
+            }
+            int cell = position[a];
+            int target = field.nextHop(cell);
+            if (target < 0) continue;
+            if (occupant[target] >= 0) target = detour(cell);
+            if (target < 0) {
+                blocked++;
+                continue;
+            }
+
+            occupant[cell] = -1;
+            moves++;
+            if (target == exit) {
+                // Agen yang sampai langsung keluar, exit tidak pernah tersumbat
+                position[a] = -1;
+                active--;
+                arrived++;
+            } else {
+                position[a] = target;
+                occupant[target] = a;
+                wait[a] = grid.cost(target) - 1;
+            }
+        }
+
+        countStuck();
+        ticks++;
+        lastTickNanos = System.nanoTime() - start;
+        tickNanos += lastTickNanos;
+    }
+
+    private void countStuck() {
+        stuck = 0;
+        for (int cell : position) {
+            if (cell >= 0 && field.distance(cell) == DistanceField.UNREACHABLE) stuck++;
+        }
+    }
+
+    // Jalan lain yang kosong dan tetap lebih dekat ke exit, atau -1 (agen menunggu)
+    private int detour(int cell) {
+        int best = -1, bestDistance = field.distance(cell);
+        for (int dir = 0; dir < 4; dir++) {
+            int next = grid.passage(cell, dir);
+            if (next < 0 || occupant[next] >= 0) continue;
+            int d = field.distance(next);
+            if (d < bestDistance) {
+                best = next;
+                bestDistance = d;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Menjalankan tick dengan laju tetap di thread simulasi sendiri. onTick dipanggil dari
+     * thread itu setelah setiap tick; simulasi berhenti sendiri saat semua agen sampai.
+     */
+    public synchronized void start(int ticksPerSecond, Runnable onTick) {
+        stop();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "maze-crowd");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1, 1_000_000_000L / ticksPerSecond);
+        running = executor.scheduleAtFixedRate(() -> {
+            tick();
+            onTick.run();
+            if (isFinished()) executor.shutdown();
+        }, 0, period, TimeUnit.NANOSECONDS);
+        scheduler = executor;
+    }
+
+    /** true selama tick masih dijadwalkan (belum stop() dan belum selesai sendiri). */
+    public synchronized boolean isRunning() {
+        return scheduler != null && !scheduler.isShutdown();
+    }
+
+    public synchronized void stop() {
+        if (scheduler == null) return;
+        running.cancel(false);
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+}
@@ -0,0 +1,67 @@
+import java.util.*;
+
+// Pohon pencarian terbalik yang berakar di exit: untuk setiap sel menyimpan
+// jarak ke exit dan langkah berikutnya. Dibangun sekali per maze, lalu jalur
+// dari sel mana pun cukup dibaca dengan mengikuti nextHop (O(panjang jalur)).
+// Kelas ini hanya membaca; distance dan nextHop disediakan subclass: ArrayDistanceField
+// (dibangun di memori, bisa diperbaiki setelah edit) atau field yang tersimpan di file
+// maze (MappedMazeGrid.storedDistanceField).
+public abstract class DistanceField {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    protected final MazeGrid grid;
+    private final boolean weighted;
+
+    protected DistanceField(MazeGrid grid, boolean weighted) {
+        this.grid = grid;
+        this.weighted = weighted;
+    }
+
+    /** Jumlah langkah ke exit (setara BFS). */
+    public static ArrayDistanceField unweighted(MazeGrid grid) {
+        return ArrayDistanceField.build(grid, false);
+    }
+
+    /** Biaya terrain ke exit (setara Dijkstra/A*). */
+    public static ArrayDistanceField weighted(MazeGrid grid) {
+        return ArrayDistanceField.build(grid, true);
+    }
+
+    /** Salinan field untuk grid lain dengan isi yang sama (mis. salinan MappedMazeGrid yang bisa diedit). */
+    public static ArrayDistanceField copyOf(DistanceField source, MazeGrid grid) {
+        return ArrayDistanceField.copy(source, grid);
+    }
+
+    public boolean isWeighted() { return weighted; }
+    public abstract int distance(int index);
+    public abstract int nextHop(int index);
+
+    /** Biaya masuk sel: biaya terrain untuk field berbobot, 1 untuk field langkah. */
+    protected int stepCost(int cell) { return weighted ? grid.cost(cell) : 1; }
+
+    /**
+     * Langkah berikutnya yang diturunkan dari jarak saja: tetangga n dengan
+     * distance(n) + biaya masuk n == distance(index). Dipakai saat next[] tidak disimpan.
+     */
+    protected int deriveNextHop(int index) {
+        int d = distance(index);
+        if (d == UNREACHABLE || index == grid.exitIndex()) return -1;
+        for (int dir = 0; dir < 4; dir++) {
+            int n = grid.passage(index, dir);
+            if (n < 0) continue;
+            int dn = distance(n);
+            if (dn != UNREACHABLE && dn + stepCost(n) == d) return n;
+        }
+        return -1;
+    }
+
+    /** Jalur dari start ke exit, kosong jika exit tidak terjangkau. */
+    public List<Cell> pathFrom(int start) {
+        List<Cell> path = new ArrayList<>();
+        if (distance(start) == UNREACHABLE) return path;
+        for (int cell = start; cell != -1; cell = nextHop(cell)) {
+            path.add(grid.cellAt(cell));
+        }
+        return path;
+    }
+}
@@ -0,0 +1,95 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Inti Eller's algorithm dalam bentuk stream: setiap panggilan nextRow menghasilkan
+// mask dinding satu baris lengkap. State hanya O(lebar), jadi jumlah baris tidak dibatasi memori.
+public class EllerRowStream {
+    private final int width;
+    private final SplittableRandom random;
+    private final int[] label;     // label set per kolom, -1 = belum ada
+    private final int[] parent;    // union-find label, dipadatkan ulang setiap baris
+    private final int[] remap;
+    private final int[] remaining;
+    private final boolean[] goesDown;
+    private final boolean[] openUp; // baris sebelumnya membuka dinding bawah di kolom ini
+    private long rowsEmitted;
+
+    public EllerRowStream(int width, SplittableRandom random) {
+        this.width = width;
+        this.random = random;
+        this.label = new int[width];
+        this.parent = new int[width * 2];
+        this.remap = new int[width * 2];
+        this.remaining = new int[width * 2];
+        this.goesDown = new boolean[width * 2];
+        this.openUp = new boolean[width];
+        Arrays.fill(label, -1);
+    }
+
+    public long getRowsEmitted() { return rowsEmitted; }
+
+    /**
+     * Mengisi walls[0..width) dengan mask dinding (bit MazeGrid.TOP..LEFT) untuk baris berikutnya.
+     * lastRow menutup semua set sehingga maze selesai sebagai perfect maze.
+     */
+    public void nextRow(byte[] walls, boolean lastRow) {
+        for (int c = 0; c < width; c++) {
+            walls[c] = (byte) (openUp[c] ? MazeGrid.ALL_WALLS & ~(1 << MazeGrid.TOP) : MazeGrid.ALL_WALLS);
+        }
+
+        // 1. Padatkan label lama ke 0..k-1 lalu beri label baru untuk sel tanpa set
+        Arrays.fill(remap, -1);
+        int next = 0;
+        for (int c = 0; c < width; c++) {
+            if (label[c] < 0) continue;
+            int root = find(label[c]);
+            if (remap[root] < 0) remap[root] = next++;
+            label[c] = remap[root];
+        }
+        for (int c = 0; c < width; c++) {
+            if (label[c] < 0) label[c] = next++;
+        }
+        for (int i = 0; i < next; i++) parent[i] = i;
+
+        // 2. Gabungkan tetangga horizontal secara acak (semua di baris terakhir)
+        for (int c = 0; c + 1 < width; c++) {
+            int a = find(label[c]), b = find(label[c + 1]);
+            if (a != b && (lastRow || random.nextBoolean())) {
+                walls[c] &= (byte) ~(1 << MazeGrid.RIGHT);
+                walls[c + 1] &= (byte) ~(1 << MazeGrid.LEFT);
+                parent[a] = b;
+            }
+        }
+
+        rowsEmitted++;
+        if (lastRow) {
+            Arrays.fill(openUp, false);
+            return;
+        }
+
+        // 3. Setiap set minimal turun satu kali ke baris berikutnya
+        for (int i = 0; i < next; i++) { remaining[i] = 0; goesDown[i] = false; }
+        for (int c = 0; c < width; c++) remaining[find(label[c])]++;
+        for (int c = 0; c < width; c++) {
+            int root = find(label[c]);
+            remaining[root]--;
+            boolean down = random.nextBoolean() || (remaining[root] == 0 && !goesDown[root]);
+            openUp[c] = down;
+            if (down) {
+                walls[c] &= (byte) ~(1 << MazeGrid.BOTTOM);
+                goesDown[root] = true;
+                label[c] = root;
+            } else {
+                label[c] = -1;
+            }
+        }
+    }
+
+    private int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
@@ -0,0 +1,30 @@
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
+// Eller's algorithm: maze dibuat baris per baris dengan EllerRowStream (state O(lebar)),
+// lalu setiap baris disalin ke region di grid.
+public class EllerStrategy implements GenerationStrategy {
+    @Override
+    public String getName() { return "Eller"; }
+
+    @Override
+    public void carve(MazeGrid grid, int row0, int col0, int height, int width,
+                      SplittableRandom random, IntConsumer progress) {
+        EllerRowStream stream = new EllerRowStream(width, random);
+        byte[] walls = new byte[width];
+
+        for (int r = 0; r < height; r++) {
+            stream.nextRow(walls, r == height - 1);
+            int rowStart = grid.index(row0 + r, col0);
+            for (int c = 0; c < width; c++) {
+                if ((walls[c] & (1 << MazeGrid.RIGHT)) == 0) grid.openPassage(rowStart + c, MazeGrid.RIGHT);
+                if ((walls[c] & (1 << MazeGrid.BOTTOM)) == 0) grid.openPassage(rowStart + c, MazeGrid.BOTTOM);
+            }
+
+            if ((r & 63) == 0) {
+                MazeGenerator.checkCancelled();
+                progress.accept((int) ((long) r * 100 / height));
+            }
+        }
+    }
+}
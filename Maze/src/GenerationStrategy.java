@@ -0,0 +1,16 @@
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
+// Algoritma pembuat maze. Setiap strategi mengukir perfect maze (semua sel terhubung,
+// tanpa loop) di dalam satu region persegi panjang dari grid yang dindingnya masih penuh.
+public interface GenerationStrategy {
+    String getName();
+
+    /**
+     * Mengukir region [row0, row0 + height) x [col0, col0 + width). Hanya dinding di
+     * dalam region yang boleh dibuka, sehingga region berbeda bisa diukir paralel.
+     * progress menerima persentase 0..100 untuk region ini.
+     */
+    void carve(MazeGrid grid, int row0, int col0, int height, int width,
+               SplittableRandom random, IntConsumer progress);
+}
@@ -0,0 +1,56 @@
+import java.util.*;
+
+// Menghitung hint secara incremental saat player bergerak. BFS membaca pohon
+// terbalik dari exit (dibangun sekali per maze), Dijkstra dan A* memakai distance
+// field milik solver; DFS memakai ulang jalur sebelumnya selama player masih
+// berjalan di atasnya.
+public class HintTracker {
+    private final MazeGrid grid;
+    private final MazeSolver solver;
+    private ArrayDistanceField stepField;
+    private List<Cell> dfsPath;
+
+    public HintTracker(MazeGrid grid, MazeSolver solver) {
+        this.grid = grid;
+        this.solver = solver;
+    }
+
+    // synchronized: hint dihitung di background, permintaan lama bisa masih berjalan
+    public synchronized MazeSolver.PathInfo hint(String algorithm, int row, int col) {
+        int start = grid.index(row, col);
+        switch (algorithm) {
+            case "BFS":
+                if (stepField == null) stepField = DistanceField.unweighted(grid);
+                return solver.toPathInfo(stepField.pathFrom(start));
+            case "Dijkstra":
+                return solver.solveDijkstraWithInfo(row, col);
+            case "A*":
+                return solver.solveAStarWithInfo(row, col);
+            case "DFS":
+                return solver.toPathInfo(dfsHint(row, col));
+            default:
+                // Varian dua arah tidak punya pohon untuk dipakai ulang
+                return solver.search(algorithm, row, col);
+        }
+    }
+
+    /** Maze diedit: pohon BFS diperbaiki incremental, jalur DFS lama dibuang. */
+    public synchronized void repair(int[] cells, int count) {
+        if (stepField != null) stepField.repair(cells, count);
+        dfsPath = null;
+    }
+
+    private List<Cell> dfsHint(int row, int col) {
+        Cell here = grid.cell(row, col);
+        if (dfsPath != null) {
+            // Player maju satu langkah di jalur lama: cukup buang kepala jalur
+            if (!dfsPath.isEmpty() && dfsPath.get(0).equals(here)) return dfsPath;
+            if (dfsPath.size() > 1 && dfsPath.get(1).equals(here)) {
+                dfsPath = new ArrayList<>(dfsPath.subList(1, dfsPath.size()));
+                return dfsPath;
+            }
+        }
+        dfsPath = solver.solveDFS(row, col);
+        return dfsPath;
+    }
+}
@@ -0,0 +1,46 @@
+import java.util.Arrays;
+
+// Binary min-heap untuk pasangan (priority, node) yang dipack ke satu long,
+// jadi push/pop tidak membuat objek baru. Node duplikat diperbolehkan (lazy deletion).
+public class IntMinHeap implements IntPriorityQueue {
+    private long[] heap;
+    private int size;
+
+    public IntMinHeap(int initialCapacity) {
+        heap = new long[Math.max(16, initialCapacity)];
+    }
+
+    public void push(int node, int priority) {
+        if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+        long entry = ((long) priority << 32) | (node & 0xFFFFFFFFL);
+        int i = size++;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (heap[p] <= entry) break;
+            heap[i] = heap[p];
+            i = p;
+        }
+        heap[i] = entry;
+    }
+
+    /** Mengambil node dengan priority terkecil. */
+    public int pop() {
+        long top = heap[0];
+        long last = heap[--size];
+        int i = 0, half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+            if (last <= heap[child]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return (int) top;
+    }
+
+    public int peekPriority() { return (int) (heap[0] >> 32); }
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+    public void clear() { size = 0; }
+}
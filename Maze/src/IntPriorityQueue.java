@@ -0,0 +1,13 @@
+// Antrean prioritas node (int) untuk Dijkstra/A*, tanpa objek per push.
+public interface IntPriorityQueue {
+    /** Menambah node, atau menurunkan prioritasnya jika implementasi mendukung decrease-key. */
+    void push(int node, int priority);
+
+    /** Mengambil node dengan priority terkecil. */
+    int pop();
+
+    int peekPriority();
+    boolean isEmpty();
+    int size();
+    void clear();
+}
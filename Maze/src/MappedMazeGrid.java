@@ -0,0 +1,118 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// MazeGrid read-only yang membaca langsung dari file MazeFile lewat memory mapping:
+// tidak ada salinan data dan tidak ada objek Cell, jadi membuka maze besar hampir instan.
+// File dipetakan per potongan baris agar bisa melebihi batas 2 GB satu MappedByteBuffer.
+public class MappedMazeGrid extends MazeGrid {
+    private static final long CHUNK_BYTES = 1L << 30;
+
+    private final long seed;
+    private final int stride, wallBytes, rowsPerChunk;
+    private final MappedByteBuffer[] chunks;
+    private final IntBuffer[] distanceChunks; // null jika file tidak menyimpan distance field
+    private final int cellsPerDistanceChunk;
+
+    private MappedMazeGrid(int rows, int cols, long seed, FileChannel channel, boolean hasDistance) throws IOException {
+        super(rows, cols);
+        this.seed = seed;
+        this.stride = MazeFile.rowStride(cols);
+        this.wallBytes = MazeFile.wallBytes(cols);
+        this.rowsPerChunk = (int) Math.max(1, CHUNK_BYTES / stride);
+
+        int chunkCount = (rows + rowsPerChunk - 1) / rowsPerChunk;
+        chunks = new MappedByteBuffer[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            long start = MazeFile.HEADER_SIZE + (long) i * rowsPerChunk * stride;
+            long length = (long) Math.min(rowsPerChunk, rows - i * rowsPerChunk) * stride;
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        }
+
+        cellsPerDistanceChunk = (int) (CHUNK_BYTES / 4);
+        if (hasDistance) {
+            long base = MazeFile.HEADER_SIZE + (long) rows * stride;
+            long cells = size();
+            int count = (int) ((cells + cellsPerDistanceChunk - 1) / cellsPerDistanceChunk);
+            distanceChunks = new IntBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long n = Math.min(cellsPerDistanceChunk, cells - (long) i * cellsPerDistanceChunk);
+                distanceChunks[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        base + (long) i * cellsPerDistanceChunk * 4, n * 4).asIntBuffer();
+            }
+        } else {
+            distanceChunks = null;
+        }
+    }
+
+    public static MappedMazeGrid open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(MazeFile.HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) break;
+            }
+            header.flip();
+            if (header.remaining() < MazeFile.HEADER_SIZE || header.getInt() != MazeFile.MAGIC) {
+                throw new IOException("Not a maze file: " + path);
+            }
+            short version = header.getShort();
+            if (version != MazeFile.VERSION) throw new IOException("Unsupported maze file version " + version);
+            short flags = header.getShort();
+            int rows = header.getInt(), cols = header.getInt();
+            long seed = header.getLong();
+
+            boolean hasDistance = (flags & MazeFile.FLAG_DISTANCE_FIELD) != 0;
+            long expected = MazeFile.HEADER_SIZE + (long) rows * MazeFile.rowStride(cols)
+                    + (hasDistance ? (long) rows * cols * 4 : 0);
+            if (rows <= 0 || cols <= 0 || channel.size() < expected) {
+                throw new IOException("Truncated maze file: " + path);
+            }
+            // Mapping tetap valid setelah channel ditutup
+            return new MappedMazeGrid(rows, cols, seed, channel, hasDistance);
+        }
+    }
+
+    public long getSeed() { return seed; }
+    public boolean hasDistanceField() { return distanceChunks != null; }
+
+    @Override
+    public int wallMask(int index) {
+        int r = index / getCols(), c = index % getCols();
+        byte b = chunks[r / rowsPerChunk].get((r % rowsPerChunk) * stride + (c >> 1));
+        return (b >> ((c & 1) * 4)) & 0xF;
+    }
+
+    @Override
+    public int typeOrdinal(int index) {
+        int r = index / getCols(), c = index % getCols();
+        byte b = chunks[r / rowsPerChunk].get((r % rowsPerChunk) * stride + wallBytes + (c >> 2));
+        return (b >> ((c & 3) * 2)) & 0x3;
+    }
+
+    @Override
+    public void openPassage(int index, int dir) { throw new UnsupportedOperationException("Mapped maze is read-only"); }
+
+    @Override
+    public void closePassage(int index, int dir) { throw new UnsupportedOperationException("Mapped maze is read-only"); }
+
+    @Override
+    public void setType(int index, Cell.CellType type) { throw new UnsupportedOperationException("Mapped maze is read-only"); }
+
+    /** Distance field berbobot yang tersimpan di file, atau null jika tidak ada. */
+    public DistanceField storedDistanceField() {
+        if (distanceChunks == null) return null;
+        return new DistanceField(this, true) {
+            @Override
+            public int distance(int index) {
+                return distanceChunks[index / cellsPerDistanceChunk].get(index % cellsPerDistanceChunk);
+            }
+
+            @Override
+            public int nextHop(int index) { return deriveNextHop(index); }
+        };
+    }
+}
@@ -0,0 +1,169 @@
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Mode batch tanpa GUI: membuat N maze dan menjalankan algoritma pilihan,
+// hasilnya ditulis per baris (CSV atau JSON lines) ke stdout atau file.
+// Contoh: java MazeBatch --rows 500 --cols 500 --count 100 --seed 42 --algos BFS,A* --format json --generator Eller
+// --edits N: setelah algoritma, N putaran edit acak (dinding dan terrain) diterapkan lewat
+// MazeEditor, lalu field yang diperbaiki dicocokkan dengan build ulang penuh.
+public class MazeBatch {
+    private int rows = 25, cols = 25, count = 1, threads = Runtime.getRuntime().availableProcessors();
+    private long seed = System.nanoTime();
+    private List<String> algorithms = Arrays.asList("BFS", "DFS", "Dijkstra", "A*");
+    private boolean json = false;
+    private String outFile = null;
+    private String generator = "Prim";
+    private boolean bucketQueue = false;
+    private boolean verify = false;
+    private int edits = 0;
+    private final java.util.concurrent.atomic.AtomicInteger failures = new java.util.concurrent.atomic.AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+        // Pastikan AWT tidak pernah diinisialisasi di server headless
+        System.setProperty("java.awt.headless", "true");
+        MazeBatch batch = new MazeBatch();
+        try {
+            batch.parseArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Options: --rows N --cols N --count N --seed S --algos BFS,DFS,Dijkstra,A*,Bi-BFS,Bi-Dijkstra,Bi-A*,Corridor-A* "
+                    + "--format csv|json --threads N --out FILE --generator Prim|Eller|Wilson|Division|Parallel --queue heap|bucket --verify --edits N");
+            System.exit(2);
+        }
+        batch.run();
+        if (batch.failures.get() > 0) {
+            System.err.println(batch.failures.get() + " verification failure(s)");
+            System.exit(1);
+        }
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--verify")) {
+                verify = true;
+                continue;
+            }
+            if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + args[i]);
+            String value = args[++i];
+            switch (args[i - 1]) {
+                case "--rows": rows = Integer.parseInt(value); break;
+                case "--cols": cols = Integer.parseInt(value); break;
+                case "--count": count = Integer.parseInt(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--algos": algorithms = Arrays.asList(value.split(",")); break;
+                case "--format": json = value.equalsIgnoreCase("json"); break;
+                case "--threads": threads = Integer.parseInt(value); break;
+                case "--out": outFile = value; break;
+                case "--generator": generator = value; break;
+                case "--edits": edits = Integer.parseInt(value); break;
+                case "--queue":
+                    if (!value.equals("heap") && !value.equals("bucket")) throw new IllegalArgumentException("Unknown queue: " + value);
+                    bucketQueue = value.equals("bucket");
+                    break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i - 1]);
+            }
+        }
+        if (rows < 3 || cols < 3) throw new IllegalArgumentException("Maze must be at least 3x3");
+        if (edits < 0) throw new IllegalArgumentException("Edit rounds must not be negative");
+        MazeGenerator.strategyByName(generator); // validasi nama
+        for (String algo : algorithms) {
+            if (!Arrays.asList(MazeSolver.ALGORITHMS).contains(algo)
+                    && !Arrays.asList(MazeSolver.CONTRACTED_ALGORITHMS).contains(algo)) {
+                throw new IllegalArgumentException("Unknown algorithm: " + algo);
+            }
+        }
+    }
+
+    private void run() throws IOException, InterruptedException {
+        Writer target = outFile == null ? new OutputStreamWriter(System.out) : new FileWriter(outFile);
+        try (PrintWriter out = new PrintWriter(new BufferedWriter(target))) {
+            if (!json) out.println("maze,rows,cols,seed,algorithm,generate_ns," + MazeSolver.PathInfo.CSV_HEADER);
+
+            ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads));
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int maze = i;
+                tasks.add(pool.submit(() -> runMaze(maze, out)));
+            }
+            pool.shutdown();
+            try {
+                for (Future<?> task : tasks) task.get();
+            } catch (ExecutionException e) {
+                pool.shutdownNow();
+                throw new IOException("Batch failed", e.getCause());
+            }
+        }
+    }
+
+    // Setiap maze memakai seed + index sehingga hasilnya bisa diulang
+    private void runMaze(int maze, PrintWriter out) {
+        long mazeSeed = seed + maze;
+        long t0 = System.nanoTime();
+        MazeGenerator gen = new MazeGenerator(rows, cols, mazeSeed);
+        gen.setStrategy(MazeGenerator.strategyByName(generator));
+        MazeGrid grid = gen.generateMaze();
+        long generateNs = System.nanoTime() - t0;
+        MazeSolver solver = new MazeSolver(grid);
+        solver.setBucketQueue(bucketQueue);
+        // --verify: cek struktur maze lalu cocokkan setiap hasil dengan jarak referensi
+        MazeValidator validator = verify ? new MazeValidator(grid) : null;
+        if (verify) report(maze, validator.validate());
+
+        List<String> lines = new ArrayList<>();
+        for (String algo : algorithms) {
+            MazeSolver.PathInfo info = solver.search(algo, 0, 0);
+            if (verify) report(maze, validator.verify(algo, grid.index(0, 0), info));
+            lines.add(json
+                    ? String.format(Locale.ROOT,
+                        "{\"maze\":%d,\"rows\":%d,\"cols\":%d,\"seed\":%d,\"algorithm\":\"%s\",\"generate_ns\":%d,%s}",
+                        maze, rows, cols, mazeSeed, algo, generateNs, info.toJsonFields())
+                    : String.format(Locale.ROOT, "%d,%d,%d,%d,%s,%d,%s",
+                        maze, rows, cols, mazeSeed, algo, generateNs, info.toCsv()));
+        }
+        // Baris dari satu maze ditulis bersamaan agar tidak bercampur dengan thread lain
+        synchronized (out) {
+            for (String line : lines) out.println(line);
+            out.flush();
+        }
+        if (edits > 0) runEdits(maze, solver, mazeSeed);
+    }
+
+    // Putaran edit acak: 1-8 edit per apply, sepertiga toggle dinding, sisanya ganti terrain.
+    // Field berbobot diperbaiki lewat solver, field langkah lewat listener (seperti HintTracker).
+    private void runEdits(int maze, MazeSolver solver, long mazeSeed) {
+        MazeGrid grid = solver.getGrid();
+        MazeEditor editor = new MazeEditor(solver);
+        MazeValidator validator = new MazeValidator(grid);
+        DistanceField costs = solver.getDistanceField();
+        ArrayDistanceField steps = DistanceField.unweighted(grid);
+        Cell.CellType[] types = Cell.CellType.values();
+        SplittableRandom random = new SplittableRandom(mazeSeed);
+        for (int round = 0; round < edits; round++) {
+            int changes = 1 + random.nextInt(8);
+            for (int e = 0; e < changes; e++) {
+                int row = random.nextInt(rows), col = random.nextInt(cols);
+                if (random.nextInt(3) == 0) editor.toggleWall(row, col, random.nextInt(4));
+                else editor.setCellType(row, col, types[random.nextInt(types.length)]);
+            }
+            editor.apply(steps::repair);
+            List<String> problems = new ArrayList<>(validator.verifyField(costs));
+            problems.addAll(validator.verifyField(steps));
+            if (!problems.isEmpty()) {
+                // Setelah field salah, putaran berikutnya hanya mengulang kesalahan yang sama
+                String prefix = "edit round " + round + ": ";
+                problems.replaceAll(problem -> prefix + problem);
+                report(maze, problems);
+                return;
+            }
+        }
+    }
+
+    private void report(int maze, List<String> problems) {
+        if (problems.isEmpty()) return;
+        failures.addAndGet(problems.size());
+        synchronized (System.err) {
+            for (String problem : problems) System.err.println("VERIFY maze " + maze + ": " + problem);
+        }
+    }
+}
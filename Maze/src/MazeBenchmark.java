@@ -0,0 +1,259 @@
+import java.io.*;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.function.Supplier;
+
+// Harness benchmark tanpa dependency untuk generator dan solver.
+// Contoh: java MazeBenchmark --sizes 25,250,2000 --seeds 1,2 --csv hasil.csv --baseline lama.csv
+// Batasan dibanding JMH: semua benchmark jalan di satu JVM tanpa fork, jadi profil JIT dari
+// benchmark sebelumnya ikut terbawa, dan dead-code hanya dicegah lewat sink. bytes_per_op
+// dijumlah dari semua thread yang hidup sebelum dan sesudah pengukuran (termasuk worker
+// ForkJoinPool dari generator paralel); alokasi thread yang dibuat dan mati di tengah
+// pengukuran tidak terhitung.
+public class MazeBenchmark {
+    private static final String[] ALGORITHMS = MazeSolver.ALGORITHMS;
+    private static final Map<String, double[]> MIXES = new LinkedHashMap<>();
+    static {
+        MIXES.put("default", new double[] {0.5, 0.3});
+        MIXES.put("grass", new double[] {1.0, 0.0});
+        MIXES.put("swamp", new double[] {0.2, 0.3});
+    }
+
+    private static final String CSV_HEADER = "benchmark,size,mix,seed,ops_per_sec,ns_per_op,bytes_per_op,gc_count,gc_ms";
+
+    // Hasil disimpan di sini supaya JIT tidak membuang pekerjaan yang diukur
+    private static long sink;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean
+                    ? (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean() : null;
+
+    private static class Result {
+        String benchmark, mix;
+        int size;
+        long seed;
+        double nsPerOp, bytesPerOp;
+        long gcCount, gcMillis;
+
+        String key() { return benchmark + "," + size + "," + mix + "," + seed; }
+
+        String toCsv() {
+            return String.format(Locale.ROOT, "%s,%.3f,%.1f,%.1f,%d,%d",
+                    key(), 1e9 / nsPerOp, nsPerOp, bytesPerOp, gcCount, gcMillis);
+        }
+    }
+
+    private int warmup = 2, iterations = 5;
+    private List<Integer> agentCounts = Arrays.asList(100, 1000);
+    private static final int CROWD_TICKS = 100;
+    private static final int EDITS_PER_APPLY = 10;
+    private final List<Result> results = new ArrayList<>();
+
+    public static void main(String[] args) throws IOException {
+        List<Integer> sizes = Arrays.asList(25, 250, 2000);
+        List<Long> seeds = Arrays.asList(1L, 2L);
+        List<String> mixes = new ArrayList<>(MIXES.keySet());
+        List<String> generators = Arrays.asList("Prim");
+        String csvOut = null, baseline = null;
+        double tolerance = 0.15;
+        MazeBenchmark bench = new MazeBenchmark();
+
+        for (int i = 0; i < args.length; i++) {
+            // Semua opsi butuh nilai; opsi tanpa nilai di akhir argumen dianggap salah pakai
+            if (i + 1 >= args.length) usage("Missing value for " + args[i]);
+            switch (args[i]) {
+                case "--sizes": sizes = parseInts(args[++i]); break;
+                case "--seeds": seeds = parseLongs(args[++i]); break;
+                case "--mixes": mixes = Arrays.asList(args[++i].split(",")); break;
+                case "--generators": generators = Arrays.asList(args[++i].split(",")); break;
+                case "--warmup": bench.warmup = Integer.parseInt(args[++i]); break;
+                case "--iterations": bench.iterations = Integer.parseInt(args[++i]); break;
+                case "--agents": bench.agentCounts = parseInts(args[++i]); break;
+                case "--csv": csvOut = args[++i]; break;
+                case "--baseline": baseline = args[++i]; break;
+                case "--tolerance": tolerance = Double.parseDouble(args[++i]); break;
+                default: usage("Unknown option: " + args[i]);
+            }
+        }
+
+        System.out.println(CSV_HEADER);
+        for (int size : sizes) {
+            for (String generator : generators) {
+                for (long seed : seeds) bench.measureGenerator(size, generator, seed);
+            }
+            for (String mix : mixes) {
+                if (!MIXES.containsKey(mix)) throw new IllegalArgumentException("Unknown mix: " + mix);
+                for (long seed : seeds) bench.runScenario(size, mix, seed);
+            }
+        }
+
+        if (csvOut != null) bench.writeCsv(csvOut);
+        if (baseline != null && bench.compareWithBaseline(baseline, tolerance) > 0) System.exit(1);
+    }
+
+    private static void usage(String problem) {
+        System.err.println(problem);
+        System.err.println("Options: --sizes 25,250 --seeds 1,2 --mixes default,grass,swamp --generators Prim,Eller "
+                + "--warmup N --iterations N --agents 100,1000 --csv FILE --baseline FILE --tolerance 0.15");
+        System.exit(2);
+    }
+
+    // Generator dibandingkan pada terrain default: nama generator ada di kolom benchmark
+    // (generate-<nama>), kolom mix selalu "default"
+    private void measureGenerator(int size, String generator, long seed) {
+        MazeGenerator.strategyByName(generator); // validasi nama
+        measure("generate-" + generator, size, "default", seed, () -> {
+            MazeGenerator gen = new MazeGenerator(size, size, seed);
+            gen.setStrategy(MazeGenerator.strategyByName(generator));
+            return gen.generateMaze();
+        });
+    }
+
+    private void runScenario(int size, String mix, long seed) {
+        double[] ratio = MIXES.get(mix);
+        measure("generate", size, mix, seed, () -> newGenerator(size, ratio, seed).generateMaze());
+
+        MazeGrid grid = newGenerator(size, ratio, seed).generateMaze();
+        MazeSolver solver = new MazeSolver(grid);
+        for (String algo : ALGORITHMS) {
+            measure("solve-" + algo, size, mix, seed, () -> solver.search(algo, 0, 0).path);
+        }
+        // Dijkstra/A* dengan bucket queue (Dial) dibandingkan dengan binary heap di atas
+        solver.setBucketQueue(true);
+        measure("solve-Dijkstra-bucket", size, mix, seed, () -> solver.search("Dijkstra", 0, 0).path);
+        measure("solve-A*-bucket", size, mix, seed, () -> solver.search("A*", 0, 0).path);
+        solver.setBucketQueue(false);
+        // Graf koridor diukur terpisah: biaya membangun dan biaya mencari setelah dibangun
+        measure("corridor-graph", size, mix, seed, () -> new CorridorGraph(grid));
+        solver.getCorridorGraph();
+        for (String algo : MazeSolver.CONTRACTED_ALGORITHMS) {
+            measure("solve-" + algo, size, mix, seed, () -> solver.search(algo, 0, 0).path);
+        }
+        measure("distance-field", size, mix, seed, () -> DistanceField.weighted(grid));
+        // Edit terrain per tick: perbaikan incremental dibandingkan dengan distance-field di atas
+        MazeSolver edited = new MazeSolver(new ArrayMazeGrid(grid));
+        edited.getDistanceField();
+        MazeEditor editor = new MazeEditor(edited);
+        SplittableRandom editRandom = new SplittableRandom(seed);
+        Cell.CellType[] types = Cell.CellType.values();
+        measure("edit-repair-" + EDITS_PER_APPLY, size, mix, seed, () -> {
+            for (int e = 0; e < EDITS_PER_APPLY; e++) {
+                editor.setCellType(editRandom.nextInt(size), editRandom.nextInt(size), types[editRandom.nextInt(types.length)]);
+            }
+            return editor.apply();
+        });
+        // Mode crowd: spawn + CROWD_TICKS tick dengan flow field yang sudah ada
+        DistanceField field = solver.getDistanceField();
+        for (int agents : agentCounts) {
+            measure("crowd-" + agents, size, mix, seed, () -> {
+                CrowdSimulation crowd = new CrowdSimulation(grid, field, agents, seed);
+                for (int t = 0; t < CROWD_TICKS && !crowd.isFinished(); t++) crowd.tick();
+                return crowd.getMoves();
+            });
+        }
+    }
+
+    private static MazeGenerator newGenerator(int size, double[] ratio, long seed) {
+        MazeGenerator generator = new MazeGenerator(size, size, seed);
+        generator.setTerrainMix(ratio[0], ratio[1]);
+        return generator;
+    }
+
+    private void measure(String name, int size, String mix, long seed, Supplier<?> op) {
+        for (int i = 0; i < warmup; i++) consume(op.get());
+
+        long gcCountBefore = gcCount(), gcTimeBefore = gcMillis();
+        Map<Long, Long> bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) consume(op.get());
+        long elapsed = System.nanoTime() - start;
+        long bytes = 0;
+        for (Map.Entry<Long, Long> e : allocatedBytes().entrySet()) {
+            bytes += e.getValue() - bytesBefore.getOrDefault(e.getKey(), 0L);
+        }
+
+        Result r = new Result();
+        r.benchmark = name; r.size = size; r.mix = mix; r.seed = seed;
+        r.nsPerOp = (double) elapsed / iterations;
+        r.bytesPerOp = THREADS == null ? -1 : (double) bytes / iterations;
+        r.gcCount = gcCount() - gcCountBefore;
+        r.gcMillis = gcMillis() - gcTimeBefore;
+        results.add(r);
+        System.out.println(r.toCsv());
+    }
+
+    private static void consume(Object value) {
+        sink += value instanceof Collection ? ((Collection<?>) value).size() : System.identityHashCode(value);
+    }
+
+    // Byte yang sudah dialokasikan per thread hidup; thread baru dihitung dari 0
+    private static Map<Long, Long> allocatedBytes() {
+        Map<Long, Long> bytes = new HashMap<>();
+        if (THREADS == null) return bytes;
+        long[] ids = THREADS.getAllThreadIds();
+        long[] allocated = THREADS.getThreadAllocatedBytes(ids);
+        for (int i = 0; i < ids.length; i++) {
+            if (allocated[i] >= 0) bytes.put(ids[i], allocated[i]);
+        }
+        return bytes;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) total += Math.max(0, gc.getCollectionCount());
+        return total;
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) total += Math.max(0, gc.getCollectionTime());
+        return total;
+    }
+
+    private void writeCsv(String file) throws IOException {
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            out.println(CSV_HEADER);
+            for (Result r : results) out.println(r.toCsv());
+        }
+    }
+
+    /** Membandingkan ns/op dengan hasil sebelumnya; mengembalikan jumlah regresi. */
+    private int compareWithBaseline(String file, double tolerance) throws IOException {
+        Map<String, Double> previous = new HashMap<>();
+        try (BufferedReader in = new BufferedReader(new FileReader(file))) {
+            String line = in.readLine(); // header
+            while ((line = in.readLine()) != null) {
+                String[] f = line.split(",");
+                if (f.length < 6) continue;
+                previous.put(f[0] + "," + f[1] + "," + f[2] + "," + f[3], Double.parseDouble(f[5]));
+            }
+        }
+
+        int regressions = 0;
+        for (Result r : results) {
+            Double old = previous.get(r.key());
+            if (old == null) continue;
+            double change = r.nsPerOp / old - 1;
+            if (change > tolerance) {
+                regressions++;
+                System.err.printf(Locale.ROOT, "REGRESSION %s: %.1f -> %.1f ns/op (+%.0f%%)%n",
+                        r.key(), old, r.nsPerOp, change * 100);
+            }
+        }
+        System.err.println(regressions == 0 ? "No regressions against " + file : regressions + " regression(s) against " + file);
+        return regressions;
+    }
+
+    private static List<Integer> parseInts(String csv) {
+        List<Integer> list = new ArrayList<>();
+        for (String s : csv.split(",")) list.add(Integer.parseInt(s.trim()));
+        return list;
+    }
+
+    private static List<Long> parseLongs(String csv) {
+        List<Long> list = new ArrayList<>();
+        for (String s : csv.split(",")) list.add(Long.parseLong(s.trim()));
+        return list;
+    }
+}
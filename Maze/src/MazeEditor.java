@@ -0,0 +1,133 @@
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+
+// Edit maze saat berjalan: buka/tutup dinding dan ganti tipe sel. Edit hanya diantrekan;
+// grid baru diubah di apply(), yang juga memperbaiki distance field solver (dan listener
+// lain) sekali untuk semua sel yang berubah. Jadi banyak edit per tick tetap murah, dan
+// pemanggil bisa menentukan kapan grid berubah (mis. di antara dua tick CrowdSimulation).
+public class MazeEditor {
+    /** Menerima daftar sel yang berubah setelah apply(), mis. HintTracker atau renderer. */
+    public interface Listener {
+        void cellsChanged(int[] cells, int count);
+    }
+
+    private static final int OPEN = 0, CLOSE = 1, TOGGLE = 2, TYPE = 3;
+
+    private final MazeGrid grid;
+    private final MazeSolver solver;
+    private int[] queued = new int[32]; // pasangan (sel, op << 8 | arah atau ordinal tipe)
+    private int queuedCount;
+    private int[] pending = new int[16];
+    private int pendingCount;
+    private final int[] pendingStamp; // sel sudah ada di pending jika stamp == epoch
+    private int epoch = 1;
+
+    public MazeEditor(MazeSolver solver) {
+        this.solver = solver;
+        this.grid = solver.getGrid();
+        if (grid instanceof MappedMazeGrid) {
+            throw new IllegalArgumentException("Mapped maze is read-only, edit MazeSolver.editableCopy() instead");
+        }
+        this.pendingStamp = new int[grid.size()];
+    }
+
+    public MazeGrid getGrid() { return grid; }
+
+    public synchronized boolean hasPendingEdits() { return queuedCount > 0; }
+
+    /** Membuka dinding di kedua sisi saat apply(); false jika di tepi grid. */
+    public boolean openWall(int row, int col, int dir) {
+        return queueWall(row, col, OPEN, dir);
+    }
+
+    /** Menutup dinding di kedua sisi saat apply(); false jika di tepi grid. */
+    public boolean closeWall(int row, int col, int dir) {
+        return queueWall(row, col, CLOSE, dir);
+    }
+
+    /** Membalik dinding sesuai keadaannya saat apply(), setelah edit sebelumnya diterapkan. */
+    public boolean toggleWall(int row, int col, int dir) {
+        return queueWall(row, col, TOGGLE, dir);
+    }
+
+    /** Mengganti terrain sel saat apply(); sel yang tipenya sudah sama tidak dihitung berubah. */
+    public boolean setCellType(int row, int col, Cell.CellType type) {
+        queue(grid.index(row, col), TYPE << 8 | type.ordinal());
+        return true;
+    }
+
+    private boolean queueWall(int row, int col, int op, int dir) {
+        int index = grid.index(row, col);
+        if (grid.neighbor(index, dir) < 0) return false;
+        queue(index, op << 8 | dir);
+        return true;
+    }
+
+    private synchronized void queue(int index, int op) {
+        if (queuedCount == queued.length) queued = Arrays.copyOf(queued, queuedCount * 2);
+        queued[queuedCount++] = index;
+        queued[queuedCount++] = op;
+    }
+
+    /**
+     * Menerapkan semua edit yang diantrekan sejak apply() terakhir ke grid dan memperbaiki
+     * cache solver, lalu memberi tahu listeners. Pencarian solver yang sedang membaca grid
+     * ditunggu dulu (lihat MazeSolver.editLock). Mengembalikan jumlah sel yang jaraknya
+     * dihitung ulang. Hanya boleh dipanggil dari satu thread pada satu waktu.
+     */
+    public int apply(Listener... listeners) {
+        int[] batch;
+        int batchCount;
+        synchronized (this) {
+            if (queuedCount == 0) return 0;
+            batch = Arrays.copyOf(queued, queuedCount);
+            batchCount = queuedCount;
+            queuedCount = 0;
+        }
+
+        int[] cells;
+        int count, repaired;
+        Lock lock = solver.editLock();
+        lock.lock();
+        try {
+            for (int k = 0; k < batchCount; k += 2) change(batch[k], batch[k + 1] >>> 8, batch[k + 1] & 0xFF);
+            if (pendingCount == 0) return 0;
+            cells = Arrays.copyOf(pending, pendingCount);
+            count = pendingCount;
+            pendingCount = 0;
+            if (++epoch == 0) {
+                Arrays.fill(pendingStamp, 0);
+                epoch = 1;
+            }
+            repaired = solver.repair(cells, count);
+        } finally {
+            lock.unlock();
+        }
+        for (Listener listener : listeners) listener.cellsChanged(cells, count);
+        return repaired;
+    }
+
+    // Satu edit dari antrean; edit yang tidak mengubah apa pun tidak menandai sel
+    private void change(int index, int op, int arg) {
+        if (op == TYPE) {
+            Cell.CellType type = Cell.CellType.values()[arg];
+            if (grid.getType(index) == type) return;
+            grid.setType(index, type);
+            mark(index);
+            return;
+        }
+        boolean open = op == OPEN || (op == TOGGLE && grid.hasWall(index, arg));
+        if (open == !grid.hasWall(index, arg)) return;
+        if (open) grid.openPassage(index, arg);
+        else grid.closePassage(index, arg);
+        mark(index);
+        mark(grid.neighbor(index, arg));
+    }
+
+    private void mark(int index) {
+        if (pendingStamp[index] == epoch) return;
+        pendingStamp[index] = epoch;
+        if (pendingCount == pending.length) pending = Arrays.copyOf(pending, pendingCount * 2);
+        pending[pendingCount++] = index;
+    }
+}
@@ -0,0 +1,27 @@
+// Format file maze biner. Header 32 byte (big-endian):
+//   int magic "MAZE", short version, short flags, int rows, int cols, long seed, 8 byte cadangan
+// lalu setiap baris: mask dinding 4 bit per sel (2 sel per byte, kolom genap di nibble bawah)
+// diikuti tipe terrain 2 bit per sel (4 sel per byte). Ukuran baris tetap, jadi baris ke-r
+// bisa dibaca langsung di offset HEADER_SIZE + r * rowStride(cols).
+public final class MazeFile {
+    public static final int MAGIC = 0x4D415A45;
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final int FLAG_DISTANCE_FIELD = 1;
+
+    private MazeFile() {}
+
+    public static int wallBytes(int cols) { return (cols + 1) / 2; }
+    public static int typeBytes(int cols) { return (cols + 3) / 4; }
+    public static int rowStride(int cols) { return wallBytes(cols) + typeBytes(cols); }
+
+    /** Mengemas satu baris (walls dan types per sel) ke out[0..rowStride). */
+    static void packRow(byte[] walls, byte[] types, int cols, byte[] out) {
+        java.util.Arrays.fill(out, 0, rowStride(cols), (byte) 0);
+        int typeOffset = wallBytes(cols);
+        for (int c = 0; c < cols; c++) {
+            out[c >> 1] |= (byte) ((walls[c] & 0xF) << ((c & 1) * 4));
+            out[typeOffset + (c >> 2)] |= (byte) ((types[c] & 0x3) << ((c & 3) * 2));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// Menulis maze ke format MazeFile baris per baris, jadi maze yang jauh lebih besar
+// dari heap tetap bisa disimpan. Jumlah baris ditulis ke header saat close().
+public class MazeFileWriter implements Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+    private final int cols;
+    private final long seed;
+    private final byte[] packed;
+    private int rows;
+    private short flags;
+
+    public MazeFileWriter(Path path, int cols, long seed) throws IOException {
+        this.cols = cols;
+        this.seed = seed;
+        this.packed = new byte[MazeFile.rowStride(cols)];
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        channel.position(MazeFile.HEADER_SIZE);
+    }
+
+    public int getRowsWritten() { return rows; }
+
+    public void writeRow(byte[] walls, byte[] types) throws IOException {
+        MazeFile.packRow(walls, types, cols, packed);
+        int offset = 0;
+        while (offset < packed.length) {
+            if (!buffer.hasRemaining()) flush();
+            int n = Math.min(buffer.remaining(), packed.length - offset);
+            buffer.put(packed, offset, n);
+            offset += n;
+        }
+        rows++;
+    }
+
+    /**
+     * Menambahkan section distance field (int big-endian per sel, urutan row-major)
+     * setelah semua baris ditulis. Next hop tidak disimpan karena bisa diturunkan dari jarak.
+     */
+    public void writeDistanceField(DistanceField field) throws IOException {
+        if (!field.isWeighted()) throw new IllegalArgumentException("Only the weighted field is stored");
+        int cells = Math.multiplyExact(rows, cols);
+        for (int i = 0; i < cells; i++) {
+            if (buffer.remaining() < 4) flush();
+            buffer.putInt(field.distance(i));
+        }
+        flags |= MazeFile.FLAG_DISTANCE_FIELD;
+    }
+
+    /**
+     * Menyimpan MazeGrid lengkap, opsional beserta distance field berbobotnya. Ditulis ke file
+     * sementara lalu di-rename atomik ke path, jadi file lama yang sedang di-mmap (maze yang
+     * dimuat dari path yang sama) tidak pernah dipotong; mapping itu tetap memegang inode lama.
+     */
+    public static void write(MazeGrid grid, long seed, DistanceField field, Path path) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            writeTo(grid, seed, field, temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeTo(MazeGrid grid, long seed, DistanceField field, Path path) throws IOException {
+        int cols = grid.getCols();
+        byte[] walls = new byte[cols], types = new byte[cols];
+        try (MazeFileWriter writer = new MazeFileWriter(path, cols, seed)) {
+            for (int r = 0; r < grid.getRows(); r++) {
+                int rowStart = grid.index(r, 0);
+                for (int c = 0; c < cols; c++) {
+                    walls[c] = (byte) grid.wallMask(rowStart + c);
+                    types[c] = (byte) grid.typeOrdinal(rowStart + c);
+                }
+                writer.writeRow(walls, types);
+            }
+            if (field != null) writer.writeDistanceField(field);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            ByteBuffer header = ByteBuffer.allocate(MazeFile.HEADER_SIZE);
+            header.putInt(MazeFile.MAGIC).putShort(MazeFile.VERSION).putShort(flags)
+                    .putInt(rows).putInt(cols).putLong(seed);
+            header.position(0);
+            channel.write(header, 0);
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -25,9 +25,15 @@ public class MazeGame extends JFrame {
         mazePanel = new MazePanel(25, 25, soundManager);
         controlPanel = new ControlPanel(mazePanel, soundManager);
 
-        add(mazePanel, BorderLayout.CENTER);
+        // Maze besar di-scroll/zoom; overlay MazePanel mengikuti area terlihat, jadi
+        // viewport harus menggambar ulang saat scroll, bukan menyalin piksel lama (blit)
+        JScrollPane scrollPane = new JScrollPane(mazePanel);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setScrollMode(JViewport.SIMPLE_SCROLL_MODE);
+        add(scrollPane, BorderLayout.CENTER);
         add(controlPanel, BorderLayout.SOUTH);
 
+        soundManager.preload("src/sounds/step.wav", "src/sounds/complete.wav");
         soundManager.playBackgroundMusic("src/sounds/background.wav");
 
         pack();
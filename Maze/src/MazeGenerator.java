@@ -1,96 +1,122 @@
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 public class MazeGenerator {
-    private Cell[][] grid;
+    private MazeGrid grid;
     private int rows, cols;
-    private Random random;
+    private final long seed;
+    private SplittableRandom random;
+    private IntConsumer progressListener = p -> {};
+    private double grassRatio = 0.5, mudRatio = 0.3; // sisanya WATER
+    private GenerationStrategy strategy = new PrimStrategy();
 
     public MazeGenerator(int rows, int cols) {
+        this(rows, cols, new SplittableRandom().nextLong());
+    }
+
+    // Maze adalah fungsi murni dari (rows, cols, seed): setiap tahap memakai stream
+    // turunan seed sendiri, jadi hasilnya sama walau tahapnya dijalankan paralel.
+    public MazeGenerator(int rows, int cols, long seed) {
         this.rows = rows;
         this.cols = cols;
-        this.random = new Random();
-        this.grid = new Cell[rows][cols];
+        this.seed = seed;
+    }
 
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                grid[i][j] = new Cell(i, j);
-            }
+    public long getSeed() { return seed; }
+
+    /**
+     * Stream acak independen untuk bagian ke-index dari suatu tahap (salt).
+     * Hanya bergantung pada seed, salt dan index, tidak pada thread atau urutan eksekusi.
+     */
+    public static SplittableRandom streamFor(long seed, long salt, long index) {
+        return new SplittableRandom(mix64(mix64(seed ^ salt) + index * 0x9E3779B97F4A7C15L));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    // Salt per tahap untuk streamFor; juga dipakai StreamingMazeGenerator agar hasilnya konsisten
+    static final long CARVE = 1, EXTRA_PATHS = 2, TERRAIN = 3;
+
+    /** Mengatur proporsi terrain; WATER mendapat sisa 1 - grass - mud. */
+    public void setTerrainMix(double grass, double mud) {
+        if (grass < 0 || mud < 0 || grass + mud > 1) {
+            throw new IllegalArgumentException("Invalid terrain mix: grass=" + grass + ", mud=" + mud);
         }
+        this.grassRatio = grass;
+        this.mudRatio = mud;
     }
 
-    public Cell[][] generateMaze() {
-        // 1. Prim's Algorithm (Standard)
-        List<Wall> walls = new ArrayList<>();
-        Cell start = grid[0][0];
-        start.setVisited(true);
-        addWalls(start, walls);
-
-        while (!walls.isEmpty()) {
-            int index = random.nextInt(walls.size());
-            Wall wall = walls.remove(index);
-            Cell c1 = wall.cell1;
-            Cell c2 = wall.cell2;
-
-            if (c1.isVisited() != c2.isVisited()) {
-                c1.removeWall(wall.direction);
-                c2.removeWall((wall.direction + 2) % 4);
-                Cell unvisited = c1.isVisited() ? c2 : c1;
-                unvisited.setVisited(true);
-                addWalls(unvisited, walls);
-            }
+    public void setStrategy(GenerationStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public GenerationStrategy getStrategy() { return strategy; }
+
+    public static final String[] STRATEGIES = {"Prim", "Eller", "Wilson", "Division", "Parallel"};
+
+    public static GenerationStrategy strategyByName(String name) {
+        switch (name) {
+            case "Prim": return new PrimStrategy();
+            case "Eller": return new EllerStrategy();
+            case "Wilson": return new WilsonStrategy();
+            case "Division": return new RecursiveDivisionStrategy();
+            case "Parallel": return new ParallelRegionStrategy();
+            default: throw new IllegalArgumentException("Unknown generator: " + name);
         }
+    }
 
+    /** Dipakai strategi untuk berhenti saat thread generator di-interrupt (mis. New Maze ditekan lagi). */
+    static void checkCancelled() {
+        if (Thread.currentThread().isInterrupted()) throw new CancellationException();
+    }
+
+    /** Dipanggil dengan persentase 0..100 selama pembuatan maze (dari thread generator). */
+    public void setProgressListener(IntConsumer listener) {
+        this.progressListener = listener;
+    }
+
+    public MazeGrid generateMaze() {
+        grid = new ArrayMazeGrid(rows, cols);
+
+        // 1. Ukir perfect maze dengan strategi terpilih (default: Prim's)
+        strategy.carve(grid, 0, 0, rows, cols, streamFor(seed, CARVE, 0), progressListener);
+
+        random = streamFor(seed, EXTRA_PATHS, 0);
         int extraPaths = (rows * cols) / 10;
         for (int i = 0; i < extraPaths; i++) {
             int r = random.nextInt(rows - 2) + 1;
             int c = random.nextInt(cols - 2) + 1;
             int dir = random.nextInt(4);
 
-            // Buka dinding di posisi acak
-            grid[r][c].removeWall(dir);
-            // Buka dinding tetangganya juga agar sinkron
-            if (dir == 0 && r > 0) grid[r-1][c].removeWall(2);
-            else if (dir == 1 && c < cols-1) grid[r][c+1].removeWall(3);
-            else if (dir == 2 && r < rows-1) grid[r+1][c].removeWall(0);
-            else if (dir == 3 && c > 0) grid[r][c-1].removeWall(1);
+            // Buka dinding di posisi acak (kedua sisi sekaligus agar sinkron)
+            grid.openPassage(grid.index(r, c), dir);
         }
 
         assignCellTypes();
-
-        // Reset visited untuk solver
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) grid[i][j].setVisited(false);
-        }
-
+        progressListener.accept(100);
         return grid;
     }
 
-    private void addWalls(Cell cell, List<Wall> walls) {
-        int[][] directions = {{-1, 0, 0}, {0, 1, 1}, {1, 0, 2}, {0, -1, 3}};
-        for (int[] dir : directions) {
-            int nR = cell.getRow() + dir[0];
-            int nC = cell.getCol() + dir[1];
-            if (nR >= 0 && nR < rows && nC >= 0 && nC < cols && !grid[nR][nC].isVisited()) {
-                walls.add(new Wall(cell, grid[nR][nC], dir[2]));
-            }
-        }
-    }
-
+    // Setiap baris punya stream sendiri, jadi baris bisa diisi paralel dengan hasil identik
     private void assignCellTypes() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                double rand = random.nextDouble();
-                if (rand < 0.5) grid[i][j].setType(Cell.CellType.GRASS);
-                else if (rand < 0.8) grid[i][j].setType(Cell.CellType.MUD);
-                else grid[i][j].setType(Cell.CellType.WATER);
+        IntStream rowRange = IntStream.range(0, rows);
+        if (grid.size() >= 1 << 20) rowRange = rowRange.parallel();
+        rowRange.forEach(r -> {
+            SplittableRandom rowRandom = streamFor(seed, TERRAIN, r);
+            for (int i = r * cols; i < (r + 1) * cols; i++) {
+                double rand = rowRandom.nextDouble();
+                if (rand < grassRatio) grid.setType(i, Cell.CellType.GRASS);
+                else if (rand < grassRatio + mudRatio) grid.setType(i, Cell.CellType.MUD);
+                else grid.setType(i, Cell.CellType.WATER);
             }
-        }
-        grid[0][0].setType(Cell.CellType.GRASS);
-        grid[rows-1][cols-1].setType(Cell.CellType.GRASS);
-    }
-
-    private static class Wall {
-        Cell cell1, cell2; int direction;
-        Wall(Cell c1, Cell c2, int d) { this.cell1 = c1; this.cell2 = c2; this.direction = d; }
+        });
+        grid.setType(0, Cell.CellType.GRASS);
+        grid.setType(grid.exitIndex(), Cell.CellType.GRASS);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+// Maze sebagai grid sel dengan index = row * cols + col. Kelas ini hanya berisi geometri
+// dan aturan dinding; data per sel (wallMask, typeOrdinal) disediakan subclass: ArrayMazeGrid
+// di memori (bisa diedit) atau MappedMazeGrid dari file (read-only).
+// Cell hanya dipakai sebagai view untuk Swing.
+public abstract class MazeGrid {
+    public static final int TOP = 0, RIGHT = 1, BOTTOM = 2, LEFT = 3;
+    public static final int ALL_WALLS = 0xF;
+
+    // Offset baris/kolom per arah, urutan sama dengan index dinding di Cell
+    static final int[] DR = {-1, 0, 1, 0};
+    static final int[] DC = {0, 1, 0, -1};
+
+    private static final Cell.CellType[] TYPES = Cell.CellType.values();
+    private static final int[] COSTS = new int[TYPES.length];
+    static {
+        for (int i = 0; i < TYPES.length; i++) COSTS[i] = TYPES[i].getCost();
+    }
+
+    private final int rows, cols, size;
+
+    protected MazeGrid(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.size = Math.multiplyExact(rows, cols);
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public int size() { return size; }
+
+    public int index(int row, int col) { return row * cols + col; }
+    public int rowOf(int index) { return index / cols; }
+    public int colOf(int index) { return index % cols; }
+    public int exitIndex() { return size - 1; }
+
+    /** 4 bit bawah: top, right, bottom, left. */
+    public abstract int wallMask(int index);
+
+    /** Ordinal Cell.CellType. */
+    public abstract int typeOrdinal(int index);
+
+    public boolean hasWall(int index, int dir) { return (wallMask(index) & (1 << dir)) != 0; }
+
+    /** Tetangga pada arah dir, atau -1 jika di luar grid. */
+    public int neighbor(int index, int dir) {
+        int r = index / cols + DR[dir], c = index % cols + DC[dir];
+        if (r < 0 || r >= rows || c < 0 || c >= cols) return -1;
+        return r * cols + c;
+    }
+
+    /** Tetangga yang bisa dicapai (tanpa dinding), atau -1. */
+    public int passage(int index, int dir) {
+        return hasWall(index, dir) ? -1 : neighbor(index, dir);
+    }
+
+    /** Membuka dinding di kedua sisi sekaligus agar selalu simetris. */
+    public abstract void openPassage(int index, int dir);
+
+    /** Menutup dinding di kedua sisi. */
+    public abstract void closePassage(int index, int dir);
+
+    public abstract void setType(int index, Cell.CellType type);
+
+    public Cell.CellType getType(int index) { return TYPES[typeOrdinal(index)]; }
+    public int cost(int index) { return COSTS[typeOrdinal(index)]; }
+
+    public Cell cell(int row, int col) { return new Cell(this, row, col); }
+    public Cell cellAt(int index) { return new Cell(this, index / cols, index % cols); }
+}
@@ -1,52 +1,442 @@
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.HashMap;
-
-public class MazePanel extends JPanel {
-    private Cell[][] grid;
-    private int rows, cols, cellSize = 25;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+public class MazePanel extends JPanel implements Scrollable {
+    private static final String[] ALGORITHMS = MazeSolver.ALGORITHMS;
+    private static final int COMPARISON_HEIGHT = 120 + ALGORITHMS.length * 64;
+    private static final int[] ZOOM_LEVELS = {1, 2, 3, 4, 6, 8, 12, 16, 20, 25, 32, 48, 64};
+    private static final int DEFAULT_CELL_SIZE = 25;
+    private static final Dimension MAX_VIEWPORT = new Dimension(1200, 800);
+    private static final ExecutorService COMPARE_POOL = Executors.newFixedThreadPool(
+            Math.min(ALGORITHMS.length, Runtime.getRuntime().availableProcessors()), r -> {
+                Thread t = new Thread(r, "maze-compare");
+                t.setDaemon(true);
+                return t;
+            });
+
+    private MazeGrid grid;
+    private int rows, cols, cellSize = DEFAULT_CELL_SIZE;
     private int playerRow = 0, playerCol = 0;
     private MazeGenerator generator;
+    private String generatorName = "Prim";
+    private long mazeSeed;
     private MazeSolver solver;
+    private HintTracker hintTracker;
     private List<Cell> hintPath;
     private String currentAlgorithm = "";
     private Color algoColor = Color.YELLOW;
     private SoundManager soundManager;
     private boolean finished = false;
-    private final int wallThickness = 6;
     private Map<String, MazeSolver.PathInfo> algorithmStats = new HashMap<>();
+    // Lantai + dinding di-cache per tile; dibuat ulang per maze
+    private MazeRenderer renderer;
+    private Point dragStart;
+
+    // Pekerjaan berat jalan di background; permintaan yang basi dibatalkan
+    private SwingWorker<MazeGrid, Void> generationTask;
+    private SwingWorker<MazeSolver.PathInfo, Void> hintTask;
+    private SwingWorker<int[], Void> editTask; // hasil: sel yang berubah
+    private int compareRequest = 0;
+    private final List<Future<?>> compareTasks = new ArrayList<>(); // kosong = tidak ada Compare All
+    private final Map<String, MazeSolver.PathInfo> compareResults = new HashMap<>();
+    private int compareRow, compareCol; // posisi start Compare All terakhir, untuk export
+    private String busyMessage = null;
+    private int busyProgress = -1;
+    // Mode banyak agen: simulasi jalan di thread sendiri, panel hanya menggambar snapshot
+    private static final int CROWD_TICKS_PER_SECOND = 20;
+    private CrowdSimulation crowd;
+    private SwingWorker<CrowdSimulation, Void> crowdTask;
+    // Mode edit: klik kiri membuka/menutup dinding terdekat atau mengecat terrain (bisa di-drag)
+    public static final String[] EDIT_BRUSHES = {"Wall", "GRASS", "MUD", "WATER"};
+    private String editBrush; // null = mode edit mati
+    private MazeEditor editor;
+    private int lastEditCell = -1;
 
     public MazePanel(int rows, int cols, SoundManager soundManager) {
         this.rows = rows; this.cols = cols;
         this.soundManager = soundManager;
-        setPreferredSize(new Dimension(cols * cellSize + 270, rows * cellSize + 1));
+        this.cellSize = fitCellSize();
+        updatePreferredSize();
         setBackground(new Color(30, 30, 40));
         setFocusable(true);
 
         addKeyListener(new KeyAdapter() {
             @Override
             public void keyPressed(KeyEvent e) {
-                if (!finished) handleMovement(e.getKeyCode());
+                int code = e.getKeyCode();
+                if (code == KeyEvent.VK_EQUALS || code == KeyEvent.VK_PLUS || code == KeyEvent.VK_ADD) zoom(1, null);
+                else if (code == KeyEvent.VK_MINUS || code == KeyEvent.VK_SUBTRACT) zoom(-1, null);
+                else if (!finished && grid != null && generationTask == null) handleMovement(code);
             }
         });
+
+        // Ctrl + scroll = zoom di posisi mouse; scroll biasa diteruskan ke JScrollPane
+        addMouseWheelListener(e -> {
+            if (e.isControlDown()) {
+                zoom(e.getWheelRotation() < 0 ? 1 : -1, e.getPoint());
+            } else {
+                Container scroll = SwingUtilities.getAncestorOfClass(JScrollPane.class, this);
+                if (scroll != null) scroll.dispatchEvent(SwingUtilities.convertMouseEvent(this, e, scroll));
+            }
+        });
+
+        // Geser (pan) dengan drag mouse
+        MouseAdapter pan = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                requestFocusInWindow();
+                if (editBrush != null && SwingUtilities.isLeftMouseButton(e)) {
+                    dragStart = null;
+                    lastEditCell = -1;
+                    editAt(e.getPoint(), true);
+                    return;
+                }
+                dragStart = e.getPoint();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (editBrush != null && SwingUtilities.isLeftMouseButton(e)) {
+                    editAt(e.getPoint(), false);
+                    return;
+                }
+                if (dragStart == null) return;
+                Rectangle view = getVisibleRect();
+                view.translate(dragStart.x - e.getX(), dragStart.y - e.getY());
+                scrollRectToVisible(view);
+            }
+        };
+        addMouseListener(pan);
+        addMouseMotionListener(pan);
         generateNewMaze();
     }
 
     public void generateNewMaze() {
         generator = new MazeGenerator(rows, cols);
-        grid = generator.generateMaze();
-        solver = new MazeSolver(grid);
+        generator.setStrategy(MazeGenerator.strategyByName(generatorName));
+        MazeGenerator gen = generator;
+        runMazeTask("Generating maze", progress -> {
+            gen.setProgressListener(progress);
+            return gen.generateMaze();
+        }, gen.getSeed());
+    }
+
+    /** Membuka maze dari file MazeFile (di-mmap, tanpa menyalin data). */
+    public void loadMaze(File file) {
+        runMazeTask("Loading maze", progress -> {
+            try {
+                MappedMazeGrid loaded = MappedMazeGrid.open(file.toPath());
+                List<String> problems = new MazeValidator(loaded).validate();
+                if (!problems.isEmpty()) throw new IOException("Invalid maze file: " + problems.get(0));
+                return loaded;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, -1);
+    }
+
+    /** Menulis hasil Compare All terakhir sebagai CSV (satu baris per algoritma). */
+    public void exportComparison(File file) {
+        if (algorithmStats.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "Run Compare All first.");
+            return;
+        }
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            out.println("algorithm,rows,cols,seed,start_row,start_col," + MazeSolver.PathInfo.CSV_HEADER);
+            for (String algo : ALGORITHMS) {
+                MazeSolver.PathInfo info = algorithmStats.get(algo);
+                if (info == null) continue;
+                out.println(algo + "," + rows + "," + cols + "," + mazeSeed + "," + compareRow + "," + compareCol + "," + info.toCsv());
+            }
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this, "Export failed: " + e.getMessage());
+        }
+    }
+
+    /** Menyimpan maze sekarang beserta distance field-nya ke file MazeFile. */
+    public void saveMaze(File file) {
+        if (grid == null || generationTask != null) return;
+        MazeGrid target = grid;
+        MazeSolver targetSolver = solver;
+        long seed = mazeSeed;
+        setBusy("Saving maze", -1);
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() throws IOException {
+                MazeFileWriter.write(target, seed, targetSolver.getDistanceField(), file.toPath());
+                return null;
+            }
+
+            @Override
+            protected void done() {
+                setBusy(null, -1);
+                try {
+                    get();
+                } catch (Exception e) {
+                    String reason = e.getCause() != null ? e.getCause().getMessage() : e.toString();
+                    JOptionPane.showMessageDialog(MazePanel.this, "Save failed: " + reason);
+                }
+            }
+        }.execute();
+    }
+
+    // Membangun maze baru (generate / load) di background lalu memasangnya di EDT
+    private void runMazeTask(String message, Function<IntConsumer, MazeGrid> build, long seed) {
+        if (generationTask != null) generationTask.cancel(true);
+        cancelHint();
+        cancelCompare();
+        setBusy(message, 0);
+
+        SwingWorker<MazeGrid, Void> task = new SwingWorker<MazeGrid, Void>() {
+            private MazeSolver newSolver;
+
+            @Override
+            protected MazeGrid doInBackground() {
+                MazeGrid newGrid = build.apply(this::setProgress);
+                newSolver = new MazeSolver(newGrid);
+                newSolver.getDistanceField(); // bangun cache jarak ke exit sekali per maze
+                return newGrid;
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || generationTask != this) return;
+                generationTask = null;
+                MazeGrid newGrid;
+                try {
+                    newGrid = get();
+                } catch (Exception e) {
+                    setBusy(null, -1);
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    System.err.println(message + " failed: " + cause.getMessage());
+                    JOptionPane.showMessageDialog(MazePanel.this, message + " failed: " + cause.getMessage());
+                    return;
+                }
+                installMaze(newGrid, newSolver,
+                        newGrid instanceof MappedMazeGrid ? ((MappedMazeGrid) newGrid).getSeed() : seed);
+            }
+        };
+        task.addPropertyChangeListener(e -> {
+            if ("progress".equals(e.getPropertyName()) && generationTask == task) {
+                setBusy(message, (Integer) e.getNewValue());
+            }
+        });
+        generationTask = task;
+        task.execute();
+        requestFocusInWindow();
+    }
+
+    private void installMaze(MazeGrid newGrid, MazeSolver newSolver, long seed) {
+        stopCrowd();
+        editor = null;
+        editTask = null; // edit yang masih jalan hanya mengubah maze lama
+        grid = newGrid;
+        solver = newSolver;
+        mazeSeed = seed;
+        hintTracker = new HintTracker(grid, solver);
+        if (rows != grid.getRows() || cols != grid.getCols()) {
+            rows = grid.getRows();
+            cols = grid.getCols();
+            cellSize = fitCellSize();
+            updatePreferredSize();
+            revalidate();
+        }
+        renderer = new MazeRenderer(grid, cellSize, getBackground());
         playerRow = 0; playerCol = 0;
         finished = false; hintPath = null;
         currentAlgorithm = "";
         algorithmStats.clear();
-        repaint();
+        setBusy(null, -1);
+        requestFocusInWindow();
+    }
+
+    /** Menyalakan mode banyak agen dengan jumlah agen tertentu, atau mematikannya jika sedang jalan. */
+    public void toggleCrowd(int agents) {
+        if (crowd != null || crowdTask != null) {
+            stopCrowd();
+            repaint();
+            return;
+        }
+        if (grid == null || generationTask != null) return;
+        MazeGrid target = grid;
+        MazeSolver targetSolver = solver;
+        long seed = mazeSeed;
+        setBusy("Spawning " + agents + " agents", -1);
+        SwingWorker<CrowdSimulation, Void> task = new SwingWorker<CrowdSimulation, Void>() {
+            @Override
+            protected CrowdSimulation doInBackground() {
+                // Flow field dari exit dipakai bersama oleh semua agen
+                return new CrowdSimulation(target, targetSolver.getDistanceField(), agents, seed);
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || crowdTask != this) return;
+                crowdTask = null;
+                setBusy(null, -1);
+                try {
+                    crowd = get();
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    System.err.println("Crowd setup failed: " + cause.getMessage());
+                    return;
+                }
+                crowd.start(CROWD_TICKS_PER_SECOND, MazePanel.this::repaint);
+            }
+        };
+        crowdTask = task;
+        task.execute();
+        requestFocusInWindow();
+    }
+
+    private void stopCrowd() {
+        if (crowdTask != null) {
+            crowdTask.cancel(true);
+            crowdTask = null;
+            setBusy(null, -1);
+        }
+        if (crowd != null) {
+            crowd.stop();
+            crowd = null;
+        }
+    }
+
+    /** Kuas mode edit (lihat EDIT_BRUSHES), atau null untuk mematikan mode edit. */
+    public void setEditBrush(String brush) {
+        this.editBrush = brush;
+        setCursor(brush == null ? Cursor.getDefaultCursor() : Cursor.getPredefinedCursor(Cursor.CROSSHAIR_CURSOR));
         requestFocusInWindow();
     }
 
+    // Dinding hanya diubah saat klik (dinding terdekat dari titik klik), terrain juga saat drag
+    private void editAt(Point p, boolean press) {
+        if (grid == null || generationTask != null) return;
+        int col = p.x / cellSize, row = p.y / cellSize;
+        if (row < 0 || row >= rows || col < 0 || col >= cols) return;
+        int index = row * cols + col;
+        if (!press && index == lastEditCell) return;
+        lastEditCell = index;
+
+        MazeEditor ed = editor();
+        if (editBrush.equals("Wall")) {
+            if (!press) return;
+            int dx = p.x - col * cellSize, dy = p.y - row * cellSize;
+            int[] edge = {dy, cellSize - dx, cellSize - dy, dx};
+            int dir = 0;
+            for (int d = 1; d < 4; d++) if (edge[d] < edge[dir]) dir = d;
+            ed.toggleWall(row, col, dir);
+        } else {
+            ed.setCellType(row, col, Cell.CellType.valueOf(editBrush));
+        }
+        applyEdits();
+    }
+
+    // Maze dari file di-mmap read-only: edit pertama membuat salinan di memori
+    private MazeEditor editor() {
+        if (editor == null) {
+            if (grid instanceof MappedMazeGrid) {
+                stopCrowd();
+                cancelCompare(); // hasil untuk solver lama tidak boleh dipasang
+                solver = solver.editableCopy();
+                grid = solver.getGrid();
+                hintTracker = new HintTracker(grid, solver);
+                renderer = new MazeRenderer(grid, cellSize, getBackground());
+            }
+            editor = new MazeEditor(solver);
+        }
+        return editor;
+    }
+
+    /**
+     * Menerapkan edit yang tertunda di background: distance field solver dan pohon hint
+     * diperbaiki incremental (atau dibangun ulang jika edit mengenai sebagian besar maze),
+     * lalu hanya tile di sekitar sel yang berubah yang digambar ulang. Edit yang masuk
+     * selama itu diterapkan setelahnya.
+     */
+    public void applyEdits() {
+        if (editor == null || editTask != null || !editor.hasPendingEdits()) return;
+        cancelHint();
+        cancelCompare();
+        MazeEditor ed = editor;
+        HintTracker tracker = hintTracker;
+        CrowdSimulation sim = crowd;
+        editTask = new SwingWorker<int[], Void>() {
+            @Override
+            protected int[] doInBackground() {
+                int[][] changed = {new int[0]};
+                MazeEditor.Listener collect = (cells, count) -> changed[0] = Arrays.copyOf(cells, count);
+                // Grid baru berubah di apply(); dengan crowd, itu terjadi di antara dua tick
+                if (sim != null) sim.betweenTicks(() -> ed.apply(tracker::repair, collect));
+                else ed.apply(tracker::repair, collect);
+                return changed[0];
+            }
+
+            @Override
+            protected void done() {
+                if (editTask != this) return;
+                editTask = null;
+                setBusy(null, -1);
+                try {
+                    for (int cell : get()) {
+                        renderer.invalidateCell(cell);
+                        repaintCell(grid.rowOf(cell), grid.colOf(cell));
+                    }
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    System.err.println("Edit failed: " + cause.getMessage());
+                }
+                // Simulasi yang berhenti karena semua agen macet jalan lagi jika edit membuka jalan
+                if (sim != null && sim == crowd && !sim.isRunning() && !sim.isFinished()) {
+                    sim.start(CROWD_TICKS_PER_SECOND, MazePanel.this::repaint);
+                }
+                // Statistik perbandingan tidak berlaku lagi untuk maze yang berubah
+                if (!algorithmStats.isEmpty()) {
+                    algorithmStats.clear();
+                    repaint();
+                }
+                if (!currentAlgorithm.isEmpty()) updateHint();
+                applyEdits();
+            }
+        };
+        // Sama seperti hint: status hanya muncul kalau edit tidak langsung selesai
+        SwingWorker<int[], Void> task = editTask;
+        Timer busyDelay = new Timer(150, e -> {
+            if (editTask == task) setBusy("Applying edits", -1);
+        });
+        busyDelay.setRepeats(false);
+        busyDelay.start();
+        task.execute();
+    }
+
+    /** Algoritma pembuat maze untuk New Maze berikutnya (lihat MazeGenerator.STRATEGIES). */
+    public void setGenerationStrategy(String name) {
+        this.generatorName = name;
+    }
+
+    private void setBusy(String message, int progress) {
+        busyMessage = message;
+        busyProgress = progress;
+        repaint();
+    }
+
     private void handleMovement(int code) {
         int dr = 0, dc = 0, wallIdx = -1;
         if (code == KeyEvent.VK_UP || code == KeyEvent.VK_W) { dr = -1; wallIdx = 0; }
@@ -54,8 +444,12 @@ public class MazePanel extends JPanel {
         else if (code == KeyEvent.VK_DOWN || code == KeyEvent.VK_S) { dr = 1; wallIdx = 2; }
         else if (code == KeyEvent.VK_LEFT || code == KeyEvent.VK_A) { dc = -1; wallIdx = 3; }
 
-        if (wallIdx != -1 && !grid[playerRow][playerCol].getWalls()[wallIdx]) {
+        if (wallIdx != -1 && !grid.hasWall(grid.index(playerRow, playerCol), wallIdx)) {
+            repaintCell(playerRow, playerCol);
             playerRow += dr; playerCol += dc;
+            repaintCell(playerRow, playerCol);
+            scrollRectToVisible(new Rectangle(playerCol * cellSize - cellSize, playerRow * cellSize - cellSize,
+                    3 * cellSize, 3 * cellSize));
             soundManager.playPathSound("src/sounds/step.wav");
             if (!currentAlgorithm.isEmpty()) updateHint();
             if (playerRow == rows - 1 && playerCol == cols - 1) {
@@ -63,11 +457,87 @@ public class MazePanel extends JPanel {
                 soundManager.playCompleteSound("src/sounds/complete.wav");
                 JOptionPane.showMessageDialog(this, "Finish! Maze Solved!");
             }
-            repaint();
         }
     }
 
+    // Hanya area sekitar sel yang digambar ulang (dinding 3D sedikit keluar dari sel)
+    private void repaintCell(int row, int col) {
+        int t = Math.max(1, cellSize / 4);
+        repaint(col * cellSize - t, row * cellSize - t, cellSize + 2 * t, cellSize + 2 * t);
+    }
+
+    /** Zoom satu level masuk (+1) atau keluar (-1); anchor tetap di posisi layar yang sama. */
+    public void zoom(int direction, Point anchor) {
+        int level = 0;
+        while (level < ZOOM_LEVELS.length - 1 && ZOOM_LEVELS[level] < cellSize) level++;
+        int next = ZOOM_LEVELS[Math.max(0, Math.min(ZOOM_LEVELS.length - 1, level + direction))];
+        if (next == cellSize) return;
+
+        Rectangle view = getVisibleRect();
+        if (anchor == null) anchor = new Point(playerCol * cellSize + cellSize / 2, playerRow * cellSize + cellSize / 2);
+        int screenX = anchor.x - view.x, screenY = anchor.y - view.y;
+        double scale = (double) next / cellSize;
+        cellSize = next;
+        if (renderer != null) renderer.setCellSize(cellSize);
+        updatePreferredSize();
+        revalidate();
+
+        JViewport viewport = (JViewport) SwingUtilities.getAncestorOfClass(JViewport.class, this);
+        if (viewport != null) {
+            // Ukuran baru harus sudah berlaku sebelum posisi view diatur
+            setSize(getPreferredSize());
+            int x = (int) (anchor.x * scale) - screenX, y = (int) (anchor.y * scale) - screenY;
+            Dimension extent = viewport.getExtentSize();
+            x = Math.max(0, Math.min(x, getWidth() - extent.width));
+            y = Math.max(0, Math.min(y, getHeight() - extent.height));
+            viewport.setViewPosition(new Point(x, y));
+        }
+        repaint();
+    }
+
+    // Zoom awal untuk maze baru: sebisa mungkin seluruh maze terlihat tanpa melebihi ukuran default
+    private int fitCellSize() {
+        int fit = Math.min(MAX_VIEWPORT.width / cols, MAX_VIEWPORT.height / rows);
+        int size = ZOOM_LEVELS[0];
+        for (int level : ZOOM_LEVELS) {
+            if (level <= Math.min(fit, DEFAULT_CELL_SIZE)) size = level;
+        }
+        return size;
+    }
+
+    private void updatePreferredSize() {
+        setPreferredSize(new Dimension(cols * cellSize + 270, Math.max(rows * cellSize + 1, COMPARISON_HEIGHT + 20)));
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        Dimension preferred = getPreferredSize();
+        return new Dimension(Math.min(preferred.width, MAX_VIEWPORT.width + 270), Math.min(preferred.height, MAX_VIEWPORT.height));
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visible, int orientation, int direction) {
+        return Math.max(cellSize, 8);
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visible, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? visible.height - cellSize : visible.width - cellSize;
+    }
+
+    // Panel melebar mengikuti viewport jika maze lebih kecil, agar overlay tetap di area terlihat
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return getParent() instanceof JViewport && getParent().getWidth() > getPreferredSize().width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return getParent() instanceof JViewport && getParent().getHeight() > getPreferredSize().height;
+    }
+
     public void setAlgorithm(String algo) {
+        if (grid == null || generationTask != null) return;
         this.currentAlgorithm = algo;
         updateHint();
         repaint();
@@ -75,112 +545,228 @@ public class MazePanel extends JPanel {
     }
 
     private void updateHint() {
-        MazeSolver.PathInfo info = null;
-        switch (currentAlgorithm) {
-            case "BFS":
-                info = solver.solveBFSWithInfo(playerRow, playerCol);
-                algoColor = Color.GREEN;
-                break;
-            case "DFS":
-                info = solver.solveDFSWithInfo(playerRow, playerCol);
-                algoColor = Color.ORANGE;
-                break;
-            case "Dijkstra":
-                info = solver.solveDijkstraWithInfo(playerRow, playerCol);
-                algoColor = Color.RED;
-                break;
-            case "A*":
-                info = solver.solveAStarWithInfo(playerRow, playerCol);
-                algoColor = Color.MAGENTA;
-                break;
-        }
-
-        if (info != null) {
-            hintPath = info.path;
-            algorithmStats.put(currentAlgorithm, info);
+        algoColor = algorithmColor(currentAlgorithm);
+
+        // Hint lama tidak relevan lagi begitu player bergerak
+        cancelHint();
+        HintTracker tracker = hintTracker;
+        String algo = currentAlgorithm;
+        int row = playerRow, col = playerCol;
+        hintTask = new SwingWorker<MazeSolver.PathInfo, Void>() {
+            @Override
+            protected MazeSolver.PathInfo doInBackground() {
+                // Incremental: hint dibaca dari pohon pencarian yang sudah ada, bukan dicari ulang
+                return tracker.hint(algo, row, col);
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || hintTask != this) return;
+                hintTask = null;
+                setBusy(null, -1);
+                try {
+                    MazeSolver.PathInfo info = get();
+                    if (info != null) {
+                        hintPath = info.path;
+                        algorithmStats.put(algo, info);
+                    }
+                } catch (Exception e) {
+                    if (!(e.getCause() instanceof CancellationException)) {
+                        System.err.println("Hint failed: " + e.getMessage());
+                    }
+                }
+                repaint();
+            }
+        };
+        // Status hanya ditampilkan kalau hint tidak langsung selesai, supaya tidak berkedip
+        SwingWorker<MazeSolver.PathInfo, Void> task = hintTask;
+        Timer busyDelay = new Timer(150, e -> {
+            if (hintTask == task) setBusy("Computing " + algo + " hint", -1);
+        });
+        busyDelay.setRepeats(false);
+        busyDelay.start();
+        task.execute();
+    }
+
+    // Pencarian Compare All yang masih jalan di-interrupt (lihat MazeSolver.checkCancelled)
+    private void cancelCompare() {
+        compareRequest++;
+        if (compareTasks.isEmpty()) return;
+        for (Future<?> task : compareTasks) task.cancel(true);
+        compareTasks.clear();
+        compareResults.clear();
+        setBusy(null, -1);
+    }
+
+    private void cancelHint() {
+        if (hintTask != null) {
+            hintTask.cancel(true);
+            hintTask = null;
+            setBusy(null, -1);
         }
     }
 
     public void compareAllAlgorithms() {
+        // Selama edit diterapkan, pencarian bisa membaca maze sebelum edit
+        if (grid == null || generationTask != null || editTask != null) return;
         algorithmStats.clear();
 
-        algorithmStats.put("BFS", solver.solveBFSWithInfo(playerRow, playerCol));
-        algorithmStats.put("DFS", solver.solveDFSWithInfo(playerRow, playerCol));
-        algorithmStats.put("Dijkstra", solver.solveDijkstraWithInfo(playerRow, playerCol));
-        algorithmStats.put("A*", solver.solveAStarWithInfo(playerRow, playerCol));
+        // Keempat algoritma jalan paralel di worker pool, hasil dikirim balik ke EDT
+        MazeSolver target = solver;
+        int row = playerRow, col = playerCol;
+        compareRow = row;
+        compareCol = col;
+        cancelCompare();
+        int request = compareRequest;
+        setBusy("Comparing algorithms", -1);
+        for (String algo : ALGORITHMS) {
+            // search() selalu mencari sungguhan, jadi statistiknya bisa dibandingkan
+            compareTasks.add(COMPARE_POOL.submit(() -> {
+                try {
+                    MazeSolver.PathInfo info = target.search(algo, row, col);
+                    SwingUtilities.invokeLater(() -> compareFinished(request, algo, info));
+                } catch (CancellationException e) {
+                    // dibatalkan cancelCompare(), hasilnya memang tidak ditunggu lagi
+                } catch (RuntimeException e) {
+                    SwingUtilities.invokeLater(() -> {
+                        if (request != compareRequest) return;
+                        cancelCompare();
+                        System.err.println("Compare failed: " + e.getMessage());
+                    });
+                }
+            }));
+        }
 
-        repaint();
         requestFocusInWindow();
     }
 
+    // Di EDT: statistik baru dipasang setelah semua algoritma dari permintaan ini selesai
+    private void compareFinished(int request, String algo, MazeSolver.PathInfo info) {
+        if (request != compareRequest) return; // sudah ada permintaan / maze yang lebih baru
+        compareResults.put(algo, info);
+        if (compareResults.size() < ALGORITHMS.length) return;
+        algorithmStats.putAll(compareResults);
+        compareResults.clear();
+        compareTasks.clear();
+        setBusy(null, -1);
+        repaint();
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         Graphics2D g2 = (Graphics2D) g;
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        // 1. Gambar Lantai
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                g2.setColor(grid[r][c].getType().getColor());
-                g2.fillRect(c * cellSize, r * cellSize, cellSize, cellSize);
-            }
+        if (grid == null) {
+            drawBusyOverlay(g2);
+            return;
         }
 
-        // 2. Gambar Jalur Petunjuk (Hint)
+        // 1. Lantai dan dinding: hanya tile yang beririsan dengan area clip
+        Rectangle clip = g2.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+        renderer.paint(g2, clip, getGraphicsConfiguration());
+
+        // 2. Gambar Jalur Petunjuk (Hint), segmen di luar clip dilewati
         if (hintPath != null) {
             g2.setColor(new Color(algoColor.getRed(), algoColor.getGreen(), algoColor.getBlue(), 120));
-            g2.setStroke(new BasicStroke(5, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2.setStroke(new BasicStroke(Math.max(1, cellSize / 5), BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            Rectangle area = new Rectangle(clip);
+            area.grow(cellSize, cellSize);
             for (int i = 0; i < hintPath.size() - 1; i++) {
                 Cell c1 = hintPath.get(i), c2 = hintPath.get(i+1);
-                g2.drawLine(c1.getCol()*cellSize+cellSize/2, c1.getRow()*cellSize+cellSize/2,
-                        c2.getCol()*cellSize+cellSize/2, c2.getRow()*cellSize+cellSize/2);
+                int x1 = c1.getCol()*cellSize+cellSize/2, y1 = c1.getRow()*cellSize+cellSize/2;
+                if (!area.contains(x1, y1)) continue;
+                g2.drawLine(x1, y1, c2.getCol()*cellSize+cellSize/2, c2.getRow()*cellSize+cellSize/2);
             }
         }
 
-        // 3. Gambar Dinding 3D
-        draw3DWalls(g2);
-
-        // 4. Player & Goal
+        // 3. Player & Goal (minimal 2 piksel agar tetap terlihat saat zoom kecil)
+        int inset = cellSize / 4, mark = Math.max(2, cellSize - 2 * inset);
         g2.setColor(Color.RED);
-        g2.fillRect((cols-1)*cellSize + 6, (rows-1)*cellSize + 6, cellSize-12, cellSize-12);
+        g2.fillRect((cols-1)*cellSize + inset, (rows-1)*cellSize + inset, mark, mark);
 
         g2.setColor(Color.CYAN);
-        g2.fillOval(playerCol*cellSize + 6, playerRow*cellSize + 6, cellSize-12, cellSize-12);
+        g2.fillOval(playerCol*cellSize + inset, playerRow*cellSize + inset, mark, mark);
         g2.setColor(Color.WHITE);
-        g2.drawOval(playerCol*cellSize + 6, playerRow*cellSize + 6, cellSize-12, cellSize-12);
+        g2.drawOval(playerCol*cellSize + inset, playerRow*cellSize + inset, mark, mark);
+
+        // 4. Agen mode crowd, hanya yang berada di area clip
+        CrowdSimulation sim = crowd;
+        if (sim != null) drawCrowd(g2, sim, clip);
 
         // 5. Draw Algorithm Comparison Panel
         if (!algorithmStats.isEmpty()) {
             drawComparisonPanel(g2);
         }
+
+        // 6. Status "computing..." saat ada pekerjaan di background
+        drawBusyOverlay(g2);
     }
 
-    private void draw3DWalls(Graphics2D g2) {
-        Color wallTop = new Color(70, 70, 80);
-        Color wallSide = new Color(40, 40, 50);
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                int x = c * cellSize, y = r * cellSize;
-                boolean[] w = grid[r][c].getWalls();
-                if (w[0]) drawBlock(g2, x, y - wallThickness/2, cellSize, wallThickness, wallTop, wallSide);
-                if (w[1]) drawBlock(g2, x + cellSize - wallThickness/2, y, wallThickness, cellSize, wallTop, wallSide);
-                if (w[2]) drawBlock(g2, x, y + cellSize - wallThickness/2, cellSize, wallThickness, wallTop, wallSide);
-                if (w[3]) drawBlock(g2, x - wallThickness/2, y, wallThickness, cellSize, wallTop, wallSide);
-            }
+    private void drawCrowd(Graphics2D g2, CrowdSimulation sim, Rectangle clip) {
+        int inset = cellSize / 4, mark = Math.max(1, cellSize - 2 * inset);
+        int firstCol = clip.x / cellSize, lastCol = (clip.x + clip.width) / cellSize;
+        int firstRow = clip.y / cellSize, lastRow = (clip.y + clip.height) / cellSize;
+        g2.setColor(new Color(255, 200, 60));
+        for (int cell : sim.snapshot()) {
+            int r = grid.rowOf(cell), c = grid.colOf(cell);
+            if (r < firstRow || r > lastRow || c < firstCol || c > lastCol) continue;
+            if (mark <= 2) g2.fillRect(c * cellSize + inset, r * cellSize + inset, mark, mark);
+            else g2.fillOval(c * cellSize + inset, r * cellSize + inset, mark, mark);
         }
+
+        Rectangle view = getVisibleRect();
+        String text = String.format(Locale.ROOT, "Arrived %d/%d  Tick %d  %.0f µs (avg %.0f µs)",
+                sim.arrivedAgents(), sim.agentCount(), sim.getTicks(),
+                sim.getLastTickNanos() / 1e3, sim.getAverageTickNanos() / 1e3);
+        if (sim.stuckAgents() > 0) text += "  Stuck " + sim.stuckAgents();
+        g2.setFont(new Font("Arial", Font.BOLD, 12));
+        int w = g2.getFontMetrics().stringWidth(text) + 20;
+        int y = view.y + view.height - 38;
+        g2.setColor(new Color(0, 0, 0, 180));
+        g2.fillRoundRect(view.x + 10, y, w, 28, 12, 12);
+        g2.setColor(Color.WHITE);
+        g2.drawString(text, view.x + 20, y + 19);
     }
 
-    private void drawBlock(Graphics2D g2, int x, int y, int w, int h, Color top, Color side) {
-        g2.setColor(side); g2.fillRect(x + 1, y + 1, w, h);
-        g2.setColor(top); g2.fillRect(x, y, w, h);
+    private void drawBusyOverlay(Graphics2D g2) {
+        if (busyMessage == null) return;
+        Rectangle view = getVisibleRect();
+        int x = view.x, y = view.y;
+        String text = busyMessage + (busyProgress >= 0 ? " " + busyProgress + "%" : "") + "…";
+        g2.setFont(new Font("Arial", Font.BOLD, 13));
+        int w = g2.getFontMetrics().stringWidth(text) + 30;
+        g2.setColor(new Color(0, 0, 0, 180));
+        g2.fillRoundRect(x + 10, y + 10, w, 34, 12, 12);
+        if (busyProgress >= 0) {
+            g2.setColor(new Color(70, 130, 180));
+            g2.fillRect(x + 15, y + 38, (w - 10) * busyProgress / 100, 3);
+        }
+        g2.setColor(Color.WHITE);
+        g2.drawString(text, x + 25, y + 32);
+    }
+
+    private static Color algorithmColor(String algo) {
+        switch (algo) {
+            case "BFS": return Color.GREEN;
+            case "DFS": return Color.ORANGE;
+            case "Dijkstra": return Color.RED;
+            case "A*": return Color.MAGENTA;
+            case "Bi-BFS": return new Color(0, 200, 200);
+            case "Bi-Dijkstra": return Color.PINK;
+            case "Bi-A*": return new Color(160, 100, 255);
+            default: return Color.YELLOW;
+        }
     }
 
     private void drawComparisonPanel(Graphics2D g2) {
-        int panelX = cols * cellSize + 10;
-        int panelY = 10;
+        // Overlay mengikuti area yang terlihat; di sebelah kanan maze jika maze muat di layar
+        Rectangle view = getVisibleRect();
         int panelWidth = 250;
-        int panelHeight = 280;
+        int panelX = Math.max(view.x + 10, Math.min(cols * cellSize + 10, view.x + view.width - panelWidth - 10));
+        int panelY = view.y + 10;
+        int panelHeight = COMPARISON_HEIGHT;
 
         // Background panel
         g2.setColor(new Color(0, 0, 0, 200));
@@ -192,8 +778,7 @@ public class MazePanel extends JPanel {
         g2.drawString("Algorithm Comparison", panelX + 20, panelY + 30);
 
         // Draw each algorithm stats
-        String[] algorithms = {"BFS", "DFS", "Dijkstra", "A*"};
-        Color[] colors = {Color.GREEN, Color.ORANGE, Color.RED, Color.MAGENTA};
+        String[] algorithms = ALGORITHMS;
         int yOffset = 60;
 
         g2.setFont(new Font("Arial", Font.PLAIN, 12));
@@ -203,7 +788,7 @@ public class MazePanel extends JPanel {
 
             if (info != null) {
                 // Color indicator
-                g2.setColor(colors[i]);
+                g2.setColor(algorithmColor(algo));
                 g2.fillRect(panelX + 15, panelY + yOffset - 10, 20, 20);
 
                 // Algorithm name
@@ -216,8 +801,16 @@ public class MazePanel extends JPanel {
                 g2.setColor(new Color(200, 200, 200));
                 g2.drawString("Steps: " + info.pathLength, panelX + 45, panelY + yOffset + 18);
                 g2.drawString("Cost: " + info.totalCost, panelX + 150, panelY + yOffset + 18);
-
-                yOffset += 50;
+                if (info.queueOps > 0) {
+                    g2.drawString(String.format("%.2f ms", info.nanos / 1e6), panelX + 150, panelY + yOffset + 3);
+                    // Statistik hanya ada untuk pencarian sungguhan (Compare All), bukan hint dari cache
+                    g2.drawString("Expanded: " + compact(info.nodesExpanded), panelX + 45, panelY + yOffset + 32);
+                    g2.drawString("Relaxed: " + compact(info.edgesRelaxed), panelX + 150, panelY + yOffset + 32);
+                    g2.drawString("Frontier: " + compact(info.maxFrontier), panelX + 45, panelY + yOffset + 46);
+                    g2.drawString("Ops: " + compact(info.queueOps), panelX + 150, panelY + yOffset + 46);
+                }
+
+                yOffset += 64;
             }
         }
 
@@ -236,6 +829,13 @@ public class MazePanel extends JPanel {
         g2.drawString("• Shortest Path: " + bestSteps, panelX + 15, panelY + yOffset + 53);
     }
 
+    // Angka besar disingkat (12.3k, 4.1M) agar muat di kolom panel
+    private static String compact(long value) {
+        if (value < 10_000) return Long.toString(value);
+        if (value < 10_000_000) return String.format("%.1fk", value / 1e3);
+        return String.format("%.1fM", value / 1e6);
+    }
+
     private String findBestAlgorithm(String criteria) {
         String best = "";
         int bestValue = Integer.MAX_VALUE;
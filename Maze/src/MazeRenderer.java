@@ -0,0 +1,175 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Menggambar lantai + dinding maze hanya untuk area yang terlihat. Hasilnya di-cache per
+// tile (LRU), jadi scroll dan repaint kecil cukup menyalin gambar. Level of detail:
+//   cellSize >= DETAIL_MIN : dinding 3D seperti biasa
+//   cellSize >= WALLS_MIN  : dinding garis datar tanpa bayangan
+//   lebih kecil            : overview terrain 1 piksel per sel (atau per blok sel), diskalakan
+public class MazeRenderer {
+    static final int TILE = 256;       // ukuran tile dalam piksel
+    static final int DETAIL_MIN = 8;
+    static final int WALLS_MIN = 3;
+    private static final int MAX_TILES = 96;
+    private static final long MAX_OVERVIEW_PIXELS = 16L << 20;
+
+    private static final Color WALL_TOP = new Color(70, 70, 80);
+    private static final Color WALL_SIDE = new Color(40, 40, 50);
+
+    private final MazeGrid grid;
+    private final Color background;
+    private int cellSize;
+    private final Map<Long, BufferedImage> tiles = new LinkedHashMap<Long, BufferedImage>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+            return size() > MAX_TILES;
+        }
+    };
+    private BufferedImage overview;
+    private int overviewStep; // jumlah sel per piksel overview (per sumbu)
+
+    public MazeRenderer(MazeGrid grid, int cellSize, Color background) {
+        this.grid = grid;
+        this.cellSize = cellSize;
+        this.background = background;
+    }
+
+    public void setCellSize(int cellSize) {
+        if (cellSize == this.cellSize) return;
+        this.cellSize = cellSize;
+        tiles.clear();
+    }
+
+    /** Ketebalan dinding pada zoom sekarang (6 piksel pada cellSize 25). */
+    public int wallThickness() { return Math.max(1, cellSize / 4); }
+
+    /** Membuang hanya tile di sekitar satu sel yang diedit; overview cukup diperbarui satu piksel. */
+    public void invalidateCell(int index) {
+        int r = grid.rowOf(index), c = grid.colOf(index);
+        int t = wallThickness() + 1;
+        int tx0 = Math.max(0, (c * cellSize - t) / TILE), tx1 = ((c + 1) * cellSize + t) / TILE;
+        int ty0 = Math.max(0, (r * cellSize - t) / TILE), ty1 = ((r + 1) * cellSize + t) / TILE;
+        for (int ty = ty0; ty <= ty1; ty++) {
+            for (int tx = tx0; tx <= tx1; tx++) tiles.remove(((long) ty << 32) | tx);
+        }
+        if (overview != null && r % overviewStep == 0 && c % overviewStep == 0) {
+            overview.setRGB(c / overviewStep, r / overviewStep, grid.getType(index).getRgb());
+        }
+    }
+
+    public void paint(Graphics2D g2, Rectangle clip, GraphicsConfiguration gc) {
+        int rows = grid.getRows(), cols = grid.getCols();
+        if (cellSize < WALLS_MIN) {
+            paintOverview(g2, clip);
+            return;
+        }
+        int width = cols * cellSize + wallThickness(), height = rows * cellSize + wallThickness();
+        int tx0 = Math.max(0, clip.x / TILE), tx1 = Math.min((width - 1) / TILE, (clip.x + clip.width - 1) / TILE);
+        int ty0 = Math.max(0, clip.y / TILE), ty1 = Math.min((height - 1) / TILE, (clip.y + clip.height - 1) / TILE);
+        for (int ty = ty0; ty <= ty1; ty++) {
+            for (int tx = tx0; tx <= tx1; tx++) {
+                long key = ((long) ty << 32) | tx;
+                BufferedImage tile = tiles.get(key);
+                if (tile == null) {
+                    tile = renderTile(tx, ty, gc);
+                    tiles.put(key, tile);
+                }
+                g2.drawImage(tile, tx * TILE, ty * TILE, null);
+            }
+        }
+    }
+
+    private BufferedImage renderTile(int tx, int ty, GraphicsConfiguration gc) {
+        BufferedImage image = gc != null ? gc.createCompatibleImage(TILE, TILE) : new BufferedImage(TILE, TILE, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setColor(background);
+        g2.fillRect(0, 0, TILE, TILE);
+        g2.translate(-tx * TILE, -ty * TILE);
+        // Dinding menjorok sedikit ke sel tetangga, jadi ambil satu sel ekstra di setiap sisi
+        int r0 = Math.max(0, ty * TILE / cellSize - 1), r1 = Math.min(grid.getRows() - 1, (ty + 1) * TILE / cellSize + 1);
+        int c0 = Math.max(0, tx * TILE / cellSize - 1), c1 = Math.min(grid.getCols() - 1, (tx + 1) * TILE / cellSize + 1);
+        drawFloors(g2, r0, r1, c0, c1);
+        if (cellSize >= DETAIL_MIN) draw3DWalls(g2, r0, r1, c0, c1);
+        else drawFlatWalls(g2, r0, r1, c0, c1);
+        g2.dispose();
+        return image;
+    }
+
+    private void drawFloors(Graphics2D g2, int r0, int r1, int c0, int c1) {
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                g2.setColor(grid.getType(grid.index(r, c)).getColor());
+                g2.fillRect(c * cellSize, r * cellSize, cellSize, cellSize);
+            }
+        }
+    }
+
+    private void draw3DWalls(Graphics2D g2, int r0, int r1, int c0, int c1) {
+        int t = wallThickness();
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int x = c * cellSize, y = r * cellSize;
+                int w = grid.wallMask(grid.index(r, c));
+                if ((w & 1) != 0) drawBlock(g2, x, y - t/2, cellSize, t);
+                if ((w & 2) != 0) drawBlock(g2, x + cellSize - t/2, y, t, cellSize);
+                if ((w & 4) != 0) drawBlock(g2, x, y + cellSize - t/2, cellSize, t);
+                if ((w & 8) != 0) drawBlock(g2, x - t/2, y, t, cellSize);
+            }
+        }
+    }
+
+    private void drawBlock(Graphics2D g2, int x, int y, int w, int h) {
+        g2.setColor(WALL_SIDE); g2.fillRect(x + 1, y + 1, w, h);
+        g2.setColor(WALL_TOP); g2.fillRect(x, y, w, h);
+    }
+
+    // Zoom kecil: cukup dinding kanan dan bawah tiap sel (dinding simetris), satu warna
+    private void drawFlatWalls(Graphics2D g2, int r0, int r1, int c0, int c1) {
+        g2.setColor(WALL_TOP);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int x = c * cellSize, y = r * cellSize;
+                int w = grid.wallMask(grid.index(r, c));
+                if ((w & 2) != 0) g2.fillRect(x + cellSize - 1, y, 1, cellSize);
+                if ((w & 4) != 0) g2.fillRect(x, y + cellSize - 1, cellSize, 1);
+                if (c == 0 && (w & 8) != 0) g2.fillRect(x, y, 1, cellSize);
+                if (r == 0 && (w & 1) != 0) g2.fillRect(x, y, cellSize, 1);
+            }
+        }
+    }
+
+    private void paintOverview(Graphics2D g2, Rectangle clip) {
+        if (overview == null) overview = buildOverview();
+        int rows = grid.getRows(), cols = grid.getCols();
+        int c0 = Math.max(0, clip.x / cellSize), c1 = Math.min(cols, (clip.x + clip.width) / cellSize + 1);
+        int r0 = Math.max(0, clip.y / cellSize), r1 = Math.min(rows, (clip.y + clip.height) / cellSize + 1);
+        if (c0 >= c1 || r0 >= r1) return;
+        int s = overviewStep;
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2.drawImage(overview,
+                c0 / s * s * cellSize, r0 / s * s * cellSize, (c1 + s - 1) / s * s * cellSize, (r1 + s - 1) / s * s * cellSize,
+                c0 / s, r0 / s, (c1 + s - 1) / s, (r1 + s - 1) / s, null);
+    }
+
+    // Mipmap terrain: satu piksel per sel, atau per blok step x step sel untuk maze yang sangat besar
+    private BufferedImage buildOverview() {
+        int rows = grid.getRows(), cols = grid.getCols();
+        int step = 1;
+        while ((long) ((rows + step - 1) / step) * ((cols + step - 1) / step) > MAX_OVERVIEW_PIXELS) step++;
+        int w = (cols + step - 1) / step, h = (rows + step - 1) / step;
+        BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        Cell.CellType[] types = Cell.CellType.values();
+        for (int y = 0; y < h; y++) {
+            MazeSolver.checkCancelled(y);
+            for (int x = 0; x < w; x++) {
+                pixels[y * w + x] = types[grid.typeOrdinal(grid.index(y * step, x * step))].getRgb();
+            }
+        }
+        overviewStep = step;
+        return image;
+    }
+}
@@ -1,33 +1,61 @@
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 public class MazeSolver {
-    private Cell[][] grid;
-    private int rows, cols;
+    public static final String[] ALGORITHMS = {"BFS", "DFS", "Dijkstra", "A*", "Bi-BFS", "Bi-Dijkstra", "Bi-A*"};
+    // Varian yang mencari di graf koridor (lihat CorridorGraph); hanya untuk batch dan benchmark
+    public static final String[] CONTRACTED_ALGORITHMS = {"Corridor-BFS", "Corridor-Dijkstra", "Corridor-A*"};
 
-    public MazeSolver(Cell[][] grid) {
+    private MazeGrid grid;
+    private final int cols;
+    // Setiap pencarian meminjam array kerja sendiri, jadi beberapa algoritma bisa jalan paralel
+    private final WorkspacePool workspaces;
+    private DistanceField costField; // cache jarak ke exit, null = belum dibangun / invalid
+    private CorridorGraph corridors; // cache graf koridor, null = belum dibangun / invalid
+    private volatile boolean bucketQueue; // Dijkstra/A* memakai BucketQueue, bukan IntMinHeap
+    // Pencarian memegang read lock; MazeEditor.apply memegang write lock selama grid diubah
+    private final ReadWriteLock gridLock = new ReentrantReadWriteLock();
+
+    public MazeSolver(MazeGrid grid) {
         this.grid = grid;
-        this.rows = grid.length;
-        this.cols = grid[0].length;
+        this.cols = grid.getCols();
+        this.workspaces = new WorkspacePool(grid.size());
+        // Maze dari file bisa membawa distance field yang sudah dihitung
+        if (grid instanceof MappedMazeGrid) this.costField = ((MappedMazeGrid) grid).storedDistanceField();
     }
 
     public List<Cell> solveBFS(int startR, int startC) {
-        resetVisited();
-        Queue<Cell> queue = new LinkedList<>();
-        Map<Cell, Cell> parent = new HashMap<>();
-        Cell start = grid[startR][startC];
-        Cell end = grid[rows-1][cols-1];
-        queue.offer(start);
-        start.setVisited(true);
-        parent.put(start, null);
-
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
-            if (current.equals(end)) return reconstructPath(parent, end);
-            for (Cell neighbor : getNeighbors(current)) {
-                if (!neighbor.isVisited()) {
-                    neighbor.setVisited(true);
-                    parent.put(neighbor, current);
-                    queue.offer(neighbor);
+        return search("BFS", startR, startC).path;
+    }
+
+    private List<Cell> bfs(SearchWorkspace ws, int startR, int startC) {
+        ws.begin();
+        int[] queue = ws.buffer;
+        int start = grid.index(startR, startC);
+        int end = grid.exitIndex();
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        ws.discover(start, -1, 0);
+        ws.queueOps++;
+
+        while (head < tail) {
+            checkCancelled(head);
+            ws.frontier(tail - head);
+            int current = queue[head++];
+            ws.expanded++;
+            ws.queueOps++;
+            if (current == end) return reconstructPath(ws.parent, end);
+            for (int dir = 0; dir < 4; dir++) {
+                int neighbor = grid.passage(current, dir);
+                if (neighbor < 0) continue;
+                ws.relaxed++;
+                if (!ws.isSeen(neighbor)) {
+                    ws.discover(neighbor, current, 0);
+                    queue[tail++] = neighbor;
+                    ws.queueOps++;
                 }
             }
         }
@@ -35,95 +63,279 @@ public class MazeSolver {
     }
 
     public List<Cell> solveDFS(int startR, int startC) {
-        resetVisited();
-        Stack<Cell> stack = new Stack<>();
-        Map<Cell, Cell> parent = new HashMap<>();
-        Cell start = grid[startR][startC];
-        Cell end = grid[rows-1][cols-1];
-        stack.push(start);
-        start.setVisited(true);
-        parent.put(start, null);
-
-        while (!stack.isEmpty()) {
-            Cell current = stack.pop();
-            if (current.equals(end)) return reconstructPath(parent, end);
-            for (Cell neighbor : getNeighbors(current)) {
-                if (!neighbor.isVisited()) {
-                    neighbor.setVisited(true);
-                    parent.put(neighbor, current);
-                    stack.push(neighbor);
+        return search("DFS", startR, startC).path;
+    }
+
+    private List<Cell> dfs(SearchWorkspace ws, int startR, int startC) {
+        ws.begin();
+        int[] stack = ws.buffer;
+        int start = grid.index(startR, startC);
+        int end = grid.exitIndex();
+        int top = 0;
+        stack[top++] = start;
+        ws.discover(start, -1, 0);
+        ws.queueOps++;
+
+        int steps = 0;
+        while (top > 0) {
+            checkCancelled(++steps);
+            int current = stack[--top];
+            ws.expanded++;
+            ws.queueOps++;
+            if (current == end) return reconstructPath(ws.parent, end);
+            for (int dir = 0; dir < 4; dir++) {
+                int neighbor = grid.passage(current, dir);
+                if (neighbor < 0) continue;
+                ws.relaxed++;
+                if (!ws.isSeen(neighbor)) {
+                    ws.discover(neighbor, current, 0);
+                    stack[top++] = neighbor;
+                    ws.queueOps++;
                 }
             }
+            ws.frontier(top);
         }
         return new ArrayList<>();
     }
 
+    // Satu langkah menaikkan g sebesar biaya sel (maks. 10) dan h paling banyak 1,
+    // jadi priority di antrean tidak pernah berselisih lebih dari maxCost + 1.
+    private static final int BUCKET_SPAN = maxCost() + 2;
+
+    private static int maxCost() {
+        int max = 0;
+        for (Cell.CellType type : Cell.CellType.values()) max = Math.max(max, type.getCost());
+        return max;
+    }
+
+    /** Memilih antrean untuk Dijkstra/A*: bucket queue (Dial) atau binary heap. */
+    public void setBucketQueue(boolean enabled) {
+        this.bucketQueue = enabled;
+    }
+
     public List<Cell> solveDijkstra(int startR, int startC) {
-        resetVisited();
-        PriorityQueue<Node> pq = new PriorityQueue<>();
-        Map<Cell, Integer> distance = new HashMap<>();
-        Map<Cell, Cell> parent = new HashMap<>();
-        Cell start = grid[startR][startC];
-        Cell end = grid[rows-1][cols-1];
-
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) distance.put(grid[i][j], Integer.MAX_VALUE);
-        }
+        return search("Dijkstra", startR, startC).path;
+    }
+
+    public List<Cell> solveAStar(int startR, int startC) {
+        return search("A*", startR, startC).path;
+    }
+
+    // Dijkstra dan A* hanya berbeda di heuristic; A* dengan h = 0 adalah Dijkstra
+    private List<Cell> solveWeighted(SearchWorkspace ws, int startR, int startC, boolean useHeuristic) {
+        ws.begin();
+        IntPriorityQueue pq = bucketQueue ? ws.buckets(BUCKET_SPAN) : ws.heap;
+        int start = grid.index(startR, startC);
+        int end = grid.exitIndex();
 
-        distance.put(start, 0);
-        pq.offer(new Node(start, 0));
-        parent.put(start, null);
+        ws.discover(start, -1, 0);
+        pq.push(start, useHeuristic ? heuristic(start, end) : 0);
+        ws.queueOps++;
 
+        int steps = 0;
         while (!pq.isEmpty()) {
-            Node current = pq.poll();
-            Cell cell = current.cell;
-            if (cell.isVisited()) continue;
-            cell.setVisited(true);
-            if (cell.equals(end)) return reconstructPath(parent, end);
-            for (Cell neighbor : getNeighbors(cell)) {
-                int newDist = distance.get(cell) + neighbor.getCost();
-                if (newDist < distance.get(neighbor)) {
-                    distance.put(neighbor, newDist);
-                    parent.put(neighbor, cell);
-                    pq.offer(new Node(neighbor, newDist));
+            checkCancelled(++steps);
+            ws.frontier(pq.size());
+            int cell = pq.pop();
+            ws.queueOps++;
+            if (ws.isClosed(cell)) continue;
+            ws.close(cell);
+            ws.expanded++;
+            if (cell == end) return reconstructPath(ws.parent, end);
+            int g = ws.dist[cell];
+            for (int dir = 0; dir < 4; dir++) {
+                int neighbor = grid.passage(cell, dir);
+                if (neighbor < 0) continue;
+                ws.relaxed++;
+                int tentativeG = g + grid.cost(neighbor);
+                if (tentativeG < ws.distance(neighbor)) {
+                    ws.discover(neighbor, cell, tentativeG);
+                    pq.push(neighbor, useHeuristic ? tentativeG + heuristic(neighbor, end) : tentativeG);
+                    ws.queueOps++;
                 }
             }
         }
         return new ArrayList<>();
     }
 
-    public List<Cell> solveAStar(int startR, int startC) {
-        resetVisited();
-        PriorityQueue<Node> pq = new PriorityQueue<>();
-        Map<Cell, Integer> gScore = new HashMap<>();
-        Map<Cell, Cell> parent = new HashMap<>();
-        Cell start = grid[startR][startC];
-        Cell end = grid[rows-1][cols-1];
-
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) gScore.put(grid[i][j], Integer.MAX_VALUE);
+    private List<Cell> bidirectionalBFS(SearchWorkspace fw, SearchWorkspace bw, int startR, int startC) {
+        fw.begin();
+        bw.begin();
+        int start = grid.index(startR, startC);
+        int end = grid.exitIndex();
+        if (start == end) return new ArrayList<>(List.of(grid.cellAt(start)));
+
+        int[] fq = fw.buffer, bq = bw.buffer;
+        int fHead = 0, fTail = 0, bHead = 0, bTail = 0;
+        fq[fTail++] = start;
+        fw.discover(start, -1, 0);
+        bq[bTail++] = end;
+        bw.discover(end, -1, 0);
+        fw.queueOps++;
+        bw.queueOps++;
+
+        // Ekspansi satu level penuh dari frontier yang lebih kecil; begitu dua pencarian
+        // bertemu, edge terbaik di level itu memberi jalur terpendek.
+        int best = Integer.MAX_VALUE, meetFrom = -1, meetTo = -1;
+        int steps = 0;
+        while (fHead < fTail && bHead < bTail && best == Integer.MAX_VALUE) {
+            boolean forward = fTail - fHead <= bTail - bHead;
+            SearchWorkspace ws = forward ? fw : bw, other = forward ? bw : fw;
+            int[] queue = forward ? fq : bq;
+            int head = forward ? fHead : bHead, tail = forward ? fTail : bTail;
+            int levelEnd = tail;
+            ws.frontier(tail - head);
+            while (head < levelEnd) {
+                checkCancelled(++steps);
+                int current = queue[head++];
+                ws.expanded++;
+                ws.queueOps++;
+                for (int dir = 0; dir < 4; dir++) {
+                    int neighbor = grid.passage(current, dir);
+                    if (neighbor < 0) continue;
+                    ws.relaxed++;
+                    if (!ws.isSeen(neighbor)) {
+                        ws.discover(neighbor, current, ws.dist[current] + 1);
+                        queue[tail++] = neighbor;
+                        ws.queueOps++;
+                    }
+                    if (other.isSeen(neighbor) && ws.dist[current] + 1 + other.dist[neighbor] < best) {
+                        best = ws.dist[current] + 1 + other.dist[neighbor];
+                        meetFrom = forward ? current : neighbor;
+                        meetTo = forward ? neighbor : current;
+                    }
+                }
+            }
+            if (forward) { fHead = head; fTail = tail; } else { bHead = head; bTail = tail; }
         }
+        fw.addStats(bw);
+        if (best == Integer.MAX_VALUE) return new ArrayList<>();
+        return joinPaths(fw.parent, meetFrom, bw.parent, meetTo);
+    }
 
-        gScore.put(start, 0);
-        pq.offer(new Node(start, heuristic(start, end)));
-        parent.put(start, null);
+    // Pencarian maju dari start dan mundur dari exit. Biaya langkah adalah biaya sel yang
+    // dimasuki, jadi arah mundur u -> v membayar cost(u). mu = biaya jalur terbaik yang sudah
+    // ditemukan lewat sel pertemuan; berhenti saat topForward + topBackward >= mu.
+    // A* memakai potensial rata-rata p(v) = (h_exit(v) - h_start(v)) / 2 untuk arah maju dan -p(v)
+    // untuk arah mundur, sehingga kriteria berhenti Dijkstra tetap berlaku. Kunci = 2 * (jarak
+    // tereduksi + D), D = jarak Manhattan start-exit, supaya tetap bilangan bulat non-negatif.
+    private List<Cell> bidirectionalWeighted(SearchWorkspace fw, SearchWorkspace bw, int startR, int startC,
+                                             boolean useHeuristic) {
+        fw.begin();
+        bw.begin();
+        int start = grid.index(startR, startC);
+        int end = grid.exitIndex();
+        if (start == end) return new ArrayList<>(List.of(grid.cellAt(start)));
 
-        while (!pq.isEmpty()) {
-            Node current = pq.poll();
-            Cell cell = current.cell;
-            if (cell.isVisited()) continue;
-            cell.setVisited(true);
-            if (cell.equals(end)) return reconstructPath(parent, end);
-            for (Cell neighbor : getNeighbors(cell)) {
-                int tentativeG = gScore.get(cell) + neighbor.getCost();
-                if (tentativeG < gScore.get(neighbor)) {
-                    gScore.put(neighbor, tentativeG);
-                    parent.put(neighbor, cell);
-                    pq.offer(new Node(neighbor, tentativeG + heuristic(neighbor, end)));
+        IntMinHeap fpq = fw.heap, bpq = bw.heap;
+        int span = useHeuristic ? heuristic(start, end) : 0;
+        fw.discover(start, -1, 0);
+        fpq.push(start, 2 * span);
+        bw.discover(end, -1, 0);
+        bpq.push(end, 2 * span);
+        fw.queueOps++;
+        bw.queueOps++;
+
+        int mu = Integer.MAX_VALUE, meet = -1;
+        int steps = 0;
+        while (!fpq.isEmpty() && !bpq.isEmpty()) {
+            checkCancelled(++steps);
+            if (mu != Integer.MAX_VALUE && (long) fpq.peekPriority() + bpq.peekPriority() >= 2L * mu + 2 * span) break;
+
+            boolean forward = fpq.size() <= bpq.size();
+            SearchWorkspace ws = forward ? fw : bw, other = forward ? bw : fw;
+            IntMinHeap pq = forward ? fpq : bpq;
+
+            ws.frontier(pq.size());
+            int cell = pq.pop();
+            ws.queueOps++;
+            if (ws.isClosed(cell)) continue;
+            ws.close(cell);
+            ws.expanded++;
+            int g = ws.dist[cell];
+            for (int dir = 0; dir < 4; dir++) {
+                int neighbor = grid.passage(cell, dir);
+                if (neighbor < 0) continue;
+                ws.relaxed++;
+                int tentativeG = g + (forward ? grid.cost(neighbor) : grid.cost(cell));
+                if (tentativeG < ws.distance(neighbor)) {
+                    ws.discover(neighbor, cell, tentativeG);
+                    int potential = useHeuristic ? heuristic(neighbor, end) - heuristic(neighbor, start) : 0;
+                    pq.push(neighbor, 2 * tentativeG + span + (forward ? potential : -potential));
+                    ws.queueOps++;
+                }
+                if (other.isSeen(neighbor)) {
+                    int total = ws.distance(neighbor) + other.dist[neighbor];
+                    if (total < mu) {
+                        mu = total;
+                        meet = neighbor;
+                    }
                 }
             }
         }
-        return new ArrayList<>();
+        fw.addStats(bw);
+        if (meet < 0) return new ArrayList<>();
+        return joinPaths(fw.parent, meet, bw.parent, bw.parent[meet]);
+    }
+
+    // Jalur start..from (mengikuti parent maju) lalu to..exit (mengikuti parent mundur)
+    private List<Cell> joinPaths(int[] forwardParent, int from, int[] backwardParent, int to) {
+        List<Cell> path = reconstructPath(forwardParent, from);
+        for (int cell = to; cell != -1; cell = backwardParent[cell]) {
+            path.add(grid.cellAt(cell));
+        }
+        return path;
+    }
+
+    /**
+     * Selalu menjalankan pencarian sungguhan (tanpa cache distance field) dan
+     * mencatat statistiknya. Dipakai untuk perbandingan, batch dan benchmark.
+     */
+    public PathInfo search(String algorithm, int startR, int startC) {
+        Lock lock = gridLock.readLock();
+        lock.lock();
+        try {
+            return searchLocked(algorithm, startR, startC);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private PathInfo searchLocked(String algorithm, int startR, int startC) {
+        // Graf koridor dibangun sebelum waktu mulai diukur dan punya pool workspace sendiri
+        CorridorGraph graph = algorithm.startsWith("Corridor-") ? getCorridorGraph() : null;
+        WorkspacePool pool = graph != null ? graph.workspaces() : workspaces;
+        SearchWorkspace ws = pool.borrow();
+        SearchWorkspace bw = algorithm.startsWith("Bi-") ? workspaces.borrow() : null;
+        try {
+            long startNs = System.nanoTime();
+            List<Cell> path;
+            int start = grid.index(startR, startC);
+            switch (algorithm) {
+                case "BFS": path = bfs(ws, startR, startC); break;
+                case "DFS": path = dfs(ws, startR, startC); break;
+                case "Dijkstra": path = solveWeighted(ws, startR, startC, false); break;
+                case "A*": path = solveWeighted(ws, startR, startC, true); break;
+                case "Bi-BFS": path = bidirectionalBFS(ws, bw, startR, startC); break;
+                case "Bi-Dijkstra": path = bidirectionalWeighted(ws, bw, startR, startC, false); break;
+                case "Bi-A*": path = bidirectionalWeighted(ws, bw, startR, startC, true); break;
+                case "Corridor-BFS": path = graph.solve(ws, start, false, false); break;
+                case "Corridor-Dijkstra": path = graph.solve(ws, start, true, false); break;
+                case "Corridor-A*": path = graph.solve(ws, start, true, true); break;
+                default: throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+            }
+            long nanos = System.nanoTime() - startNs;
+            PathInfo info = new PathInfo(path, calculatePathCost(path));
+            info.nodesExpanded = ws.expanded;
+            info.edgesRelaxed = ws.relaxed;
+            info.maxFrontier = ws.maxFrontier;
+            info.queueOps = ws.queueOps;
+            info.nanos = nanos;
+            return info;
+        } finally {
+            pool.release(ws);
+            if (bw != null) workspaces.release(bw);
+        }
     }
 
     // NEW: Methods with PathInfo
@@ -137,73 +349,139 @@ public class MazeSolver {
         return new PathInfo(path, calculatePathCost(path));
     }
 
+    // Exit selalu di pojok kanan bawah, jadi jalur optimal Dijkstra/A* dari sel mana pun
+    // cukup dibaca dari distance field yang di-cache (O(panjang jalur)).
     public PathInfo solveDijkstraWithInfo(int startR, int startC) {
-        List<Cell> path = solveDijkstra(startR, startC);
-        return new PathInfo(path, calculatePathCost(path));
+        return fieldPath(startR, startC);
     }
 
     public PathInfo solveAStarWithInfo(int startR, int startC) {
-        List<Cell> path = solveAStar(startR, startC);
+        return fieldPath(startR, startC);
+    }
+
+    // Read lock: field tidak boleh sedang diperbaiki saat next[] diikuti
+    private PathInfo fieldPath(int startR, int startC) {
+        Lock lock = gridLock.readLock();
+        lock.lock();
+        try {
+            List<Cell> path = getDistanceField().pathFrom(grid.index(startR, startC));
+            return new PathInfo(path, calculatePathCost(path));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write lock atas grid: dipegang MazeEditor.apply selama grid diubah dan cache diperbaiki.
+     * Menunggu pencarian yang sedang jalan, dan pencarian baru menunggu sampai edit selesai.
+     */
+    public Lock editLock() {
+        return gridLock.writeLock();
+    }
+
+    /** Distance field berbobot dari exit; dibangun sekali lalu diperbaiki lewat repair saat maze diedit. */
+    public synchronized DistanceField getDistanceField() {
+        if (costField == null) costField = DistanceField.weighted(grid);
+        return costField;
+    }
+
+    /** Graf koridor; dibangun sekali lalu dipakai ulang sampai maze diedit (lihat repair). */
+    public synchronized CorridorGraph getCorridorGraph() {
+        if (corridors == null) corridors = new CorridorGraph(grid);
+        return corridors;
+    }
+
+    /**
+     * Dipanggil setelah maze diedit (lihat MazeEditor): distance field yang sudah ada diperbaiki
+     * incremental, graf koridor dibuang dan dibangun ulang saat dibutuhkan. Mengembalikan
+     * jumlah sel yang jaraknya dihitung ulang. Pemanggil memegang editLock().
+     */
+    public synchronized int repair(int[] cells, int count) {
+        corridors = null;
+        if (costField instanceof ArrayDistanceField) return ((ArrayDistanceField) costField).repair(cells, count);
+        costField = null; // field dari file tidak bisa diperbaiki, dibangun ulang saat dibutuhkan
+        return 0;
+    }
+
+    /** Solver atas salinan grid yang bisa diedit; distance field yang sudah ada ikut disalin. */
+    public synchronized MazeSolver editableCopy() {
+        MazeSolver copy = new MazeSolver(new ArrayMazeGrid(grid));
+        if (costField != null) copy.costField = DistanceField.copyOf(costField, copy.grid);
+        return copy;
+    }
+
+    public MazeGrid getGrid() { return grid; }
+
+    public PathInfo toPathInfo(List<Cell> path) {
         return new PathInfo(path, calculatePathCost(path));
     }
 
+    // Model biaya yang sama dengan Dijkstra/A* dan DistanceField: setiap langkah membayar
+    // biaya sel yang dimasuki, jadi sel start tidak dihitung.
     private int calculatePathCost(List<Cell> path) {
         int cost = 0;
-        for (Cell cell : path) {
-            cost += cell.getCost();
+        for (int i = 1; i < path.size(); i++) {
+            cost += path.get(i).getCost();
         }
         return cost;
     }
 
-    private int heuristic(Cell a, Cell b) {
-        return Math.abs(a.getRow() - b.getRow()) + Math.abs(a.getCol() - b.getCol());
+    /** Cek interrupt tiap 4096 langkah agar pencarian yang basi bisa dihentikan. */
+    static void checkCancelled(int step) {
+        if ((step & 4095) == 0 && Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Search cancelled");
+        }
     }
 
-    private List<Cell> getNeighbors(Cell cell) {
-        List<Cell> neighbors = new ArrayList<>();
-        int[][] directions = {{-1, 0, 0}, {0, 1, 1}, {1, 0, 2}, {0, -1, 3}};
-        for (int[] dir : directions) {
-            if (!cell.getWalls()[dir[2]]) {
-                int nR = cell.getRow() + dir[0];
-                int nC = cell.getCol() + dir[1];
-                if (nR >= 0 && nR < rows && nC >= 0 && nC < cols) neighbors.add(grid[nR][nC]);
-            }
-        }
-        return neighbors;
+    private int heuristic(int a, int b) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
     }
 
-    private List<Cell> reconstructPath(Map<Cell, Cell> parent, Cell end) {
+    private List<Cell> reconstructPath(int[] parent, int end) {
         List<Cell> path = new ArrayList<>();
-        Cell current = end;
-        while (current != null) {
-            path.add(0, current);
-            current = parent.get(current);
+        int current = end;
+        while (current != -1) {
+            path.add(grid.cellAt(current));
+            current = parent[current];
         }
+        Collections.reverse(path);
         return path;
     }
 
-    private void resetVisited() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) grid[i][j].setVisited(false);
-        }
-    }
-
-    private static class Node implements Comparable<Node> {
-        Cell cell; int priority;
-        Node(Cell cell, int priority) { this.cell = cell; this.priority = priority; }
-        @Override public int compareTo(Node o) { return Integer.compare(this.priority, o.priority); }
-    }
-
     // NEW: PathInfo class
     public static class PathInfo {
         public List<Cell> path;
-        public int totalCost;
-        public int pathLength;
+        public int totalCost;  // jumlah biaya sel yang dimasuki (tanpa sel start)
+        public int pathLength; // jumlah sel di jalur, termasuk start dan exit
+        // Statistik pencarian, hanya diisi oleh search(); untuk pencarian dua arah
+        // maxFrontier adalah jumlah puncak kedua arah
+        public int nodesExpanded;
+        public long edgesRelaxed;
+        public int maxFrontier;
+        public long queueOps;
+        public long nanos;
+
+        public static final String CSV_HEADER =
+                "path_length,cost,nodes_expanded,edges_relaxed,max_frontier,queue_ops,solve_ns";
 
         public PathInfo(List<Cell> path, int totalCost) {
             this.path = path;
             this.totalCost = totalCost;
             this.pathLength = path.size();
         }
+
+        /** Kolom-kolom sesuai CSV_HEADER. */
+        public String toCsv() {
+            return String.format(Locale.ROOT, "%d,%d,%d,%d,%d,%d,%d",
+                    pathLength, totalCost, nodesExpanded, edgesRelaxed, maxFrontier, queueOps, nanos);
+        }
+
+        /** Field JSON (tanpa kurung kurawal) dengan nama yang sama seperti CSV_HEADER. */
+        public String toJsonFields() {
+            return String.format(Locale.ROOT,
+                    "\"path_length\":%d,\"cost\":%d,\"nodes_expanded\":%d,\"edges_relaxed\":%d,"
+                            + "\"max_frontier\":%d,\"queue_ops\":%d,\"solve_ns\":%d",
+                    pathLength, totalCost, nodesExpanded, edgesRelaxed, maxFrontier, queueOps, nanos);
+        }
     }
-}
\ No newline at end of file
+}
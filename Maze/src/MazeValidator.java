@@ -0,0 +1,132 @@
+import java.util.*;
+
+// Pemeriksa konsistensi maze dan hasil solver. Struktur: dinding simetris, tepi grid
+// tertutup, tipe/biaya sel valid dan semua sel terhubung. Hasil solver: jalur tersambung
+// dari start ke exit, biaya sesuai model (biaya sel yang dimasuki) dan, untuk algoritma
+// optimal, sama dengan jarak referensi dari DistanceField. Field yang diperbaiki setelah edit
+// bisa dicocokkan dengan field yang dibangun ulang penuh.
+public class MazeValidator {
+    private static final int MAX_PROBLEMS = 20;
+
+    private final MazeGrid grid;
+    private DistanceField steps, costs; // referensi, dibangun saat pertama kali dibutuhkan
+
+    public MazeValidator(MazeGrid grid) {
+        this.grid = grid;
+    }
+
+    /** Daftar masalah struktur maze (maks. MAX_PROBLEMS); kosong berarti valid. */
+    public List<String> validate() {
+        List<String> problems = new ArrayList<>();
+        int typeCount = Cell.CellType.values().length;
+        for (int i = 0; i < grid.size() && problems.size() < MAX_PROBLEMS; i++) {
+            MazeSolver.checkCancelled(i);
+            int mask = grid.wallMask(i);
+            if ((mask & ~MazeGrid.ALL_WALLS) != 0) problems.add(at(i) + ": invalid wall bits " + mask);
+            for (int dir = 0; dir < 4; dir++) {
+                int other = grid.neighbor(i, dir);
+                if (other < 0) {
+                    if (!grid.hasWall(i, dir)) problems.add(at(i) + ": open wall on the grid border");
+                } else if (grid.hasWall(i, dir) != grid.hasWall(other, (dir + 2) % 4)) {
+                    problems.add(at(i) + ": wall " + dir + " does not match " + at(other));
+                }
+            }
+            int type = grid.typeOrdinal(i);
+            if (type < 0 || type >= typeCount) problems.add(at(i) + ": invalid cell type " + type);
+            else if (grid.cost(i) < 1) problems.add(at(i) + ": cost must be positive");
+        }
+        if (!problems.isEmpty()) return problems;
+
+        int unreachable = 0;
+        DistanceField field = stepField();
+        for (int i = 0; i < grid.size(); i++) {
+            if (field.distance(i) == DistanceField.UNREACHABLE) unreachable++;
+        }
+        if (unreachable > 0) problems.add(unreachable + " cell(s) cannot reach the exit");
+        return problems;
+    }
+
+    /** Memeriksa hasil satu algoritma dari sel start; kosong berarti benar. */
+    public List<String> verify(String algorithm, int start, MazeSolver.PathInfo info) {
+        List<String> problems = new ArrayList<>();
+        List<Cell> path = info.path;
+        if (path.isEmpty()) {
+            problems.add(algorithm + ": no path from " + at(start));
+            return problems;
+        }
+        if (path.get(0).getIndex() != start) problems.add(algorithm + ": path starts at " + at(path.get(0).getIndex()));
+        if (path.get(path.size() - 1).getIndex() != grid.exitIndex()) {
+            problems.add(algorithm + ": path ends at " + at(path.get(path.size() - 1).getIndex()));
+        }
+
+        int cost = 0;
+        for (int i = 1; i < path.size(); i++) {
+            int from = path.get(i - 1).getIndex(), to = path.get(i).getIndex();
+            if (!connected(from, to)) {
+                problems.add(algorithm + ": no passage between " + at(from) + " and " + at(to));
+                return problems;
+            }
+            cost += grid.cost(to);
+        }
+        if (cost != info.totalCost) problems.add(algorithm + ": reported cost " + info.totalCost + ", path cost " + cost);
+        if (path.size() != info.pathLength) problems.add(algorithm + ": reported length " + info.pathLength + ", path has " + path.size());
+
+        // DFS tidak menjanjikan jalur terpendek; varian *BFS optimal dalam langkah, sisanya dalam biaya
+        if (algorithm.equals("DFS")) return problems;
+        if (algorithm.endsWith("BFS")) {
+            int best = stepField().distance(start);
+            if (path.size() - 1 != best) problems.add(algorithm + ": " + (path.size() - 1) + " steps, optimum is " + best);
+        } else {
+            int best = costField().distance(start);
+            if (cost != best) problems.add(algorithm + ": cost " + cost + ", optimum is " + best);
+        }
+        return problems;
+    }
+
+    /**
+     * Mencocokkan field (mis. hasil DistanceField.repair) dengan field baru yang dibangun penuh
+     * dari grid saat ini: jarak harus sama dan setiap next hop harus langkah terbuka yang
+     * biayanya tepat menutup selisih jarak. Kosong berarti sama.
+     */
+    public List<String> verifyField(DistanceField field) {
+        List<String> problems = new ArrayList<>();
+        String name = field.isWeighted() ? "weighted field" : "unweighted field";
+        DistanceField reference = field.isWeighted() ? DistanceField.weighted(grid) : DistanceField.unweighted(grid);
+        int exit = grid.exitIndex();
+        for (int i = 0; i < grid.size() && problems.size() < MAX_PROBLEMS; i++) {
+            int d = field.distance(i);
+            if (d != reference.distance(i)) {
+                problems.add(name + " " + at(i) + ": distance " + d + ", rebuild has " + reference.distance(i));
+                continue;
+            }
+            if (i == exit || d == DistanceField.UNREACHABLE) continue;
+            int next = field.nextHop(i);
+            int step = field.isWeighted() && next >= 0 ? grid.cost(next) : 1;
+            if (next < 0 || !connected(i, next) || field.distance(next) + step != d) {
+                problems.add(name + " " + at(i) + ": bad next hop " + (next < 0 ? "none" : at(next)));
+            }
+        }
+        return problems;
+    }
+
+    private boolean connected(int from, int to) {
+        for (int dir = 0; dir < 4; dir++) {
+            if (grid.passage(from, dir) == to) return true;
+        }
+        return false;
+    }
+
+    private DistanceField stepField() {
+        if (steps == null) steps = DistanceField.unweighted(grid);
+        return steps;
+    }
+
+    private DistanceField costField() {
+        if (costs == null) costs = DistanceField.weighted(grid);
+        return costs;
+    }
+
+    private String at(int index) {
+        return "(" + grid.rowOf(index) + "," + grid.colOf(index) + ")";
+    }
+}
@@ -0,0 +1,107 @@
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+// Membagi grid menjadi tile yang diukir paralel di ForkJoinPool dengan strategi lain,
+// lalu tile-tile disambung lewat spanning tree acak (satu celah per pasangan tile)
+// sehingga hasilnya tetap perfect maze. Output hanya bergantung pada random, bukan jumlah thread.
+public class ParallelRegionStrategy implements GenerationStrategy {
+    private final GenerationStrategy tileStrategy;
+    private final int tileSize;
+    private final ForkJoinPool pool;
+
+    public ParallelRegionStrategy() {
+        this(new PrimStrategy(), 256, ForkJoinPool.commonPool());
+    }
+
+    public ParallelRegionStrategy(GenerationStrategy tileStrategy, int tileSize, ForkJoinPool pool) {
+        this.tileStrategy = tileStrategy;
+        this.tileSize = tileSize;
+        this.pool = pool;
+    }
+
+    @Override
+    public String getName() { return "Parallel"; }
+
+    @Override
+    public void carve(MazeGrid grid, int row0, int col0, int height, int width,
+                      SplittableRandom random, IntConsumer progress) {
+        int tileRows = (height + tileSize - 1) / tileSize;
+        int tileCols = (width + tileSize - 1) / tileSize;
+        int tiles = tileRows * tileCols;
+        long tileSeed = random.nextLong();
+
+        // Tile berjalan di thread lain, jadi interrupt pada thread pemanggil diperiksa manual
+        Thread caller = Thread.currentThread();
+        AtomicInteger done = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < tiles; t++) {
+            int tr = t / tileCols, tc = t % tileCols, tileIndex = t;
+            tasks.add(() -> {
+                int r = row0 + tr * tileSize, c = col0 + tc * tileSize;
+                int h = Math.min(tileSize, row0 + height - r), w = Math.min(tileSize, col0 + width - c);
+                tileStrategy.carve(grid, r, c, h, w, MazeGenerator.streamFor(tileSeed, 0, tileIndex), p -> {
+                    if (caller.isInterrupted()) throw new CancellationException();
+                });
+                progress.accept(done.incrementAndGet() * 100 / tiles);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> f : pool.invokeAll(tasks)) f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        }
+
+        stitch(grid, row0, col0, height, width, tileRows, tileCols, random);
+    }
+
+    // Kruskal acak di graf tile: setiap edge yang dipilih membuka satu dinding di perbatasan
+    private void stitch(MazeGrid grid, int row0, int col0, int height, int width,
+                        int tileRows, int tileCols, SplittableRandom random) {
+        List<int[]> borders = new ArrayList<>(); // {tileA, tileB, horizontal ? 1 : 0}
+        for (int tr = 0; tr < tileRows; tr++) {
+            for (int tc = 0; tc < tileCols; tc++) {
+                int t = tr * tileCols + tc;
+                if (tc + 1 < tileCols) borders.add(new int[] {t, t + 1, 1});
+                if (tr + 1 < tileRows) borders.add(new int[] {t, t + tileCols, 0});
+            }
+        }
+        for (int i = borders.size() - 1; i > 0; i--) {
+            Collections.swap(borders, i, random.nextInt(i + 1));
+        }
+
+        int[] parent = new int[tileRows * tileCols];
+        for (int i = 0; i < parent.length; i++) parent[i] = i;
+        for (int[] border : borders) {
+            int a = find(parent, border[0]), b = find(parent, border[1]);
+            if (a == b) continue;
+            parent[a] = b;
+
+            int tr = border[0] / tileCols, tc = border[0] % tileCols;
+            if (border[2] == 1) {
+                // Tile kiri-kanan: buka dinding kanan sel di kolom terakhir tile kiri
+                int c = col0 + (tc + 1) * tileSize - 1;
+                int r0 = row0 + tr * tileSize, h = Math.min(tileSize, row0 + height - r0);
+                grid.openPassage(grid.index(r0 + random.nextInt(h), c), MazeGrid.RIGHT);
+            } else {
+                int r = row0 + (tr + 1) * tileSize - 1;
+                int c0 = col0 + tc * tileSize, w = Math.min(tileSize, col0 + width - c0);
+                grid.openPassage(grid.index(r, c0 + random.nextInt(w)), MazeGrid.BOTTOM);
+            }
+        }
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
@@ -0,0 +1,85 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
+// Randomized Prim's. Frontier berisi edge yang dipack ke int (cell lokal * 2 + {0: kanan, 1: bawah}).
+// Hanya edge antara sel visited dan unvisited yang disimpan, masing-masing sekali,
+// dan penghapusan memakai swap-remove sehingga setiap langkah O(1).
+public class PrimStrategy implements GenerationStrategy {
+    @Override
+    public String getName() { return "Prim"; }
+
+    @Override
+    public void carve(MazeGrid grid, int row0, int col0, int height, int width,
+                      SplittableRandom random, IntConsumer progress) {
+        int cells = height * width;
+        boolean[] visited = new boolean[cells];
+        Frontier frontier = new Frontier(cells);
+        visit(0, width, height, visited, frontier);
+        int carved = 1, step = Math.max(1, cells / 100);
+
+        while (!frontier.isEmpty()) {
+            int edge = frontier.removeAt(random.nextInt(frontier.size()));
+            int a = edge >>> 1;
+            boolean right = (edge & 1) == 0;
+            int b = right ? a + 1 : a + width;
+
+            grid.openPassage(grid.index(row0 + a / width, col0 + a % width), right ? MazeGrid.RIGHT : MazeGrid.BOTTOM);
+            visit(visited[a] ? b : a, width, height, visited, frontier);
+            if (++carved % step == 0) {
+                MazeGenerator.checkCancelled();
+                progress.accept((int) ((long) carved * 100 / cells));
+            }
+        }
+    }
+
+    private void visit(int cell, int width, int height, boolean[] visited, Frontier frontier) {
+        visited[cell] = true;
+        int r = cell / width, c = cell % width;
+        if (c + 1 < width) link(cell << 1, cell + 1, visited, frontier);
+        if (r + 1 < height) link((cell << 1) | 1, cell + width, visited, frontier);
+        if (c > 0) link((cell - 1) << 1, cell - 1, visited, frontier);
+        if (r > 0) link(((cell - width) << 1) | 1, cell - width, visited, frontier);
+    }
+
+    private void link(int edge, int neighbor, boolean[] visited, Frontier frontier) {
+        if (visited[neighbor]) frontier.remove(edge); // edge basi: kedua sisi sudah visited
+        else frontier.add(edge);
+    }
+
+    // Himpunan edge dengan add/remove/removeAt O(1): buffer padat + posisi tiap edge
+    private static class Frontier {
+        private int[] edges = new int[64];
+        private final int[] position;
+        private int size;
+
+        Frontier(int cells) {
+            position = new int[cells * 2];
+            Arrays.fill(position, -1);
+        }
+
+        boolean isEmpty() { return size == 0; }
+        int size() { return size; }
+
+        void add(int edge) {
+            if (position[edge] >= 0) return;
+            if (size == edges.length) edges = Arrays.copyOf(edges, size * 2);
+            position[edge] = size;
+            edges[size++] = edge;
+        }
+
+        void remove(int edge) {
+            int i = position[edge];
+            if (i >= 0) removeAt(i);
+        }
+
+        int removeAt(int i) {
+            int edge = edges[i];
+            int last = edges[--size];
+            edges[i] = last;
+            position[last] = i;
+            position[edge] = -1;
+            return edge;
+        }
+    }
+}
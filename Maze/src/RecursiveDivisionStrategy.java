@@ -0,0 +1,54 @@
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
+// Recursive division: region dibuka seluruhnya, lalu dibagi dengan dinding
+// yang masing-masing punya satu celah. Memakai stack eksplisit agar aman untuk grid besar.
+public class RecursiveDivisionStrategy implements GenerationStrategy {
+    @Override
+    public String getName() { return "Division"; }
+
+    @Override
+    public void carve(MazeGrid grid, int row0, int col0, int height, int width,
+                      SplittableRandom random, IntConsumer progress) {
+        for (int r = row0; r < row0 + height; r++) {
+            for (int c = col0; c < col0 + width; c++) {
+                int idx = grid.index(r, c);
+                if (c + 1 < col0 + width) grid.openPassage(idx, MazeGrid.RIGHT);
+                if (r + 1 < row0 + height) grid.openPassage(idx, MazeGrid.BOTTOM);
+            }
+        }
+
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[] {row0, col0, height, width});
+        int divisions = 0;
+        while (!stack.isEmpty()) {
+            int[] region = stack.pop();
+            int r = region[0], c = region[1], h = region[2], w = region[3];
+            if (h < 2 || w < 2) continue;
+
+            boolean horizontal = h > w || (h == w && random.nextBoolean());
+            if (horizontal) {
+                // Dinding di antara baris y dan y + 1, celah di kolom gap
+                int y = r + random.nextInt(h - 1);
+                int gap = c + random.nextInt(w);
+                for (int x = c; x < c + w; x++) {
+                    if (x != gap) grid.closePassage(grid.index(y, x), MazeGrid.BOTTOM);
+                }
+                stack.push(new int[] {r, c, y - r + 1, w});
+                stack.push(new int[] {y + 1, c, r + h - y - 1, w});
+            } else {
+                int x = c + random.nextInt(w - 1);
+                int gap = r + random.nextInt(h);
+                for (int y = r; y < r + h; y++) {
+                    if (y != gap) grid.closePassage(grid.index(y, x), MazeGrid.RIGHT);
+                }
+                stack.push(new int[] {r, c, h, x - c + 1});
+                stack.push(new int[] {r, x + 1, h, c + w - x - 1});
+            }
+            if ((++divisions & 1023) == 0) MazeGenerator.checkCancelled();
+        }
+        progress.accept(100);
+    }
+}
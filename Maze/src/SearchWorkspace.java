@@ -0,0 +1,71 @@
+// Array kerja yang dipakai ulang antar pencarian. Penanda "visited" memakai
+// epoch: cukup naikkan epoch daripada menyapu seluruh grid setiap kali.
+public class SearchWorkspace {
+    final int[] parent;
+    final int[] dist;
+    final int[] buffer; // queue BFS / stack DFS
+    final IntMinHeap heap;
+    private BucketQueue buckets; // dibuat saat pertama kali diminta
+    private final int[] seen;
+    private final int[] closed;
+    private int epoch;
+    // Statistik pencarian terakhir
+    int expanded;     // node yang diekspansi
+    long relaxed;     // edge yang diperiksa dari node yang diekspansi
+    int maxFrontier;  // ukuran queue/stack/heap terbesar
+    long queueOps;    // push + pop ke queue/stack/heap
+
+    public SearchWorkspace(int size) {
+        parent = new int[size];
+        dist = new int[size];
+        buffer = new int[size];
+        seen = new int[size];
+        closed = new int[size];
+        heap = new IntMinHeap(1024);
+    }
+
+    /** Memulai pencarian baru; semua node kembali dianggap belum dikunjungi. */
+    void begin() {
+        if (++epoch == Integer.MAX_VALUE) {
+            java.util.Arrays.fill(seen, 0);
+            java.util.Arrays.fill(closed, 0);
+            epoch = 1;
+        }
+        heap.clear();
+        if (buckets != null) buckets.clear();
+        expanded = 0;
+        relaxed = 0;
+        maxFrontier = 0;
+        queueOps = 0;
+    }
+
+    void frontier(int size) {
+        if (size > maxFrontier) maxFrontier = size;
+    }
+
+    /** Menggabungkan statistik arah lain (pencarian dua arah). */
+    void addStats(SearchWorkspace other) {
+        expanded += other.expanded;
+        relaxed += other.relaxed;
+        maxFrontier += other.maxFrontier;
+        queueOps += other.queueOps;
+    }
+
+    BucketQueue buckets(int span) {
+        if (buckets == null) buckets = new BucketQueue(parent.length, span);
+        return buckets;
+    }
+
+    boolean isSeen(int node) { return seen[node] == epoch; }
+    boolean isClosed(int node) { return closed[node] == epoch; }
+    void close(int node) { closed[node] = epoch; }
+
+    void discover(int node, int from, int distance) {
+        seen[node] = epoch;
+        parent[node] = from;
+        dist[node] = distance;
+    }
+
+    /** Jarak saat ini, atau Integer.MAX_VALUE jika node belum ditemukan. */
+    int distance(int node) { return seen[node] == epoch ? dist[node] : Integer.MAX_VALUE; }
+}
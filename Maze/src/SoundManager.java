@@ -1,113 +1,121 @@
-import javax.sound.sampled.*;
+import javax.sound.sampled.UnsupportedAudioFileException;
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class SoundManager {
-    private Clip backgroundMusic;
-    private Clip pathSound;
-    private Clip completeSound;
-    private boolean soundEnabled;
-    private float volume = 0.5f; // 0.0 to 1.0
+    // Semua suara (musik dan efek) dicampur SoftwareMixer di satu line audio. Efek di-decode
+    // sekali ke memori di thread loader; setelah itu memainkan efek hanya mengantre perintah.
+    // Musik latar di-stream dari file dan berganti lagu dengan crossfade.
+    private static final int CROSSFADE_MS = 1500, STOP_FADE_MS = 300;
+
+    private final SoftwareMixer mixer;
+    private volatile boolean soundEnabled;
+    private volatile float volume = 0.5f; // 0.0 to 1.0
+    private volatile int backgroundVoice;
+
+    private final Map<String, SoftwareMixer.Sample> sfxCache = new ConcurrentHashMap<>();
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "maze-sound-loader");
+        t.setDaemon(true);
+        return t;
+    });
 
     public SoundManager(boolean soundEnabled) {
+        this(soundEnabled, SoftwareMixer.DEFAULT_BUFFER_FRAMES);
+    }
+
+    /** bufferFrames: ukuran blok mixer; lebih kecil = latensi lebih rendah, lebih rawan putus. */
+    public SoundManager(boolean soundEnabled, int bufferFrames) {
         this.soundEnabled = soundEnabled;
+        this.mixer = new SoftwareMixer(bufferFrames, "maze-audio");
+        mixer.setMasterGain(volume);
     }
 
-    public void playBackgroundMusic(String filepath) {
+    /** Decode efek suara di background agar pemutaran pertama pun tidak menunggu disk. */
+    public void preload(String... filepaths) {
         if (!soundEnabled) return;
+        for (String path : filepaths) loader.execute(() -> load(path));
+    }
 
-        try {
-            stopBackgroundMusic();
+    public void playBackgroundMusic(String filepath) {
+        if (!soundEnabled) return;
+        loader.execute(() -> {
             File audioFile = new File(filepath);
-
             if (!audioFile.exists()) {
                 System.err.println("Audio file not found: " + audioFile.getAbsolutePath());
                 return;
             }
-
-            System.out.println("Loading background music: " + audioFile.getAbsolutePath());
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(audioFile);
-            backgroundMusic = AudioSystem.getClip();
-            backgroundMusic.open(audioStream);
-            setVolume(backgroundMusic, volume);
-            backgroundMusic.loop(Clip.LOOP_CONTINUOUSLY);
-            backgroundMusic.start();
-            System.out.println("Background music started successfully!");
-        } catch (UnsupportedAudioFileException e) {
-            System.err.println("Unsupported audio format: " + e.getMessage());
-        } catch (IOException e) {
-            System.err.println("IO Error: " + e.getMessage());
-        } catch (LineUnavailableException e) {
-            System.err.println("Audio line unavailable: " + e.getMessage());
-        }
+            if (!ensureMixer()) return;
+            // Lagu lama memudar sementara lagu baru masuk
+            int fade = SoftwareMixer.framesFor(CROSSFADE_MS);
+            mixer.fadeOut(backgroundVoice, fade);
+            try {
+                backgroundVoice = mixer.playStream(audioFile, 1f, true, backgroundVoice != 0 ? fade : 0);
+                System.out.println("Background music started successfully!");
+            } catch (UnsupportedAudioFileException e) {
+                System.err.println("Unsupported audio format: " + e.getMessage());
+            } catch (IOException e) {
+                System.err.println("IO Error: " + e.getMessage());
+            }
+        });
     }
 
     public void playPathSound(String filepath) {
-        if (!soundEnabled) return;
+        playEffect(filepath);
+    }
 
-        try {
-            File audioFile = new File(filepath);
-            if (!audioFile.exists()) {
-                System.err.println("Step audio file not found: " + audioFile.getAbsolutePath());
-                return;
-            }
+    public void playCompleteSound(String filepath) {
+        playEffect(filepath);
+    }
 
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(audioFile);
-            pathSound = AudioSystem.getClip();
-            pathSound.open(audioStream);
-            setVolume(pathSound, volume);
-            pathSound.start();
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.err.println("Error playing path sound: " + e.getMessage());
+    // Dipanggil dari EDT: sampel yang sudah di-cache langsung diantre ke mixer,
+    // yang belum dimuat dulu di thread loader
+    private void playEffect(String filepath) {
+        if (!soundEnabled) return;
+        SoftwareMixer.Sample sound = sfxCache.get(filepath);
+        if (sound != null && mixer.isRunning()) {
+            mixer.play(sound, 1f, false);
+            return;
         }
+        loader.execute(() -> {
+            SoftwareMixer.Sample loaded = load(filepath);
+            if (ensureMixer()) mixer.play(loaded, 1f, false);
+        });
     }
 
-    public void playCompleteSound(String filepath) {
-        if (!soundEnabled) return;
+    private boolean ensureMixer() {
+        return mixer.isRunning() || mixer.start();
+    }
 
-        try {
-            File audioFile = new File(filepath);
+    // File yang gagal dimuat disimpan sebagai SILENCE agar tidak dicoba (dan dilaporkan) setiap langkah
+    private SoftwareMixer.Sample load(String filepath) {
+        return sfxCache.computeIfAbsent(filepath, path -> {
+            File audioFile = new File(path);
             if (!audioFile.exists()) {
-                System.err.println("Complete audio file not found: " + audioFile.getAbsolutePath());
-                return;
+                System.err.println("Audio file not found: " + audioFile.getAbsolutePath());
+                return SoftwareMixer.Sample.SILENCE;
             }
-
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(audioFile);
-            completeSound = AudioSystem.getClip();
-            completeSound.open(audioStream);
-            setVolume(completeSound, volume);
-            completeSound.start();
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.err.println("Error playing complete sound: " + e.getMessage());
-        }
+            try {
+                return SoftwareMixer.load(audioFile);
+            } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+                System.err.println("Error loading sound " + path + ": " + e.getMessage());
+                return SoftwareMixer.Sample.SILENCE;
+            }
+        });
     }
 
     public void stopBackgroundMusic() {
-        if (backgroundMusic != null && backgroundMusic.isRunning()) {
-            backgroundMusic.stop();
-            backgroundMusic.close();
-        }
+        mixer.fadeOut(backgroundVoice, SoftwareMixer.framesFor(STOP_FADE_MS));
+        backgroundVoice = 0;
     }
 
     public void setVolume(float newVolume) {
         this.volume = Math.max(0.0f, Math.min(1.0f, newVolume));
-
-        if (backgroundMusic != null && backgroundMusic.isOpen()) {
-            setVolume(backgroundMusic, volume);
-        }
-    }
-
-    private void setVolume(Clip clip, float volume) {
-        if (clip != null && clip.isOpen()) {
-            try {
-                FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-                float range = gainControl.getMaximum() - gainControl.getMinimum();
-                float gain = (range * volume) + gainControl.getMinimum();
-                gainControl.setValue(gain);
-            } catch (Exception e) {
-                System.err.println("Error setting volume: " + e.getMessage());
-            }
-        }
+        mixer.setMasterGain(volume);
     }
 
     public void setSoundEnabled(boolean enabled) {
@@ -127,7 +135,7 @@ public class SoundManager {
 
     public void dispose() {
         stopBackgroundMusic();
-        if (pathSound != null) pathSound.close();
-        if (completeSound != null) completeSound.close();
+        loader.shutdownNow();
+        mixer.close();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+
+// Generator berbasis Eller yang mengeluarkan maze baris per baris dengan state O(cols),
+// untuk maze yang terlalu besar sebagai MazeGrid. Carving dan terrain memakai stream yang
+// sama dengan MazeGenerator + EllerStrategy untuk seed yang sama; extra path dibuat per baris.
+// Contoh: java StreamingMazeGenerator --rows 100000 --cols 2000 --seed 7 --out maze.bin
+public class StreamingMazeGenerator {
+    private final int rows, cols;
+    private final long seed;
+    private final EllerRowStream carver;
+    private final boolean[] extraUp; // extra path dari baris sebelumnya yang membuka dinding atas
+    private double grassRatio = 0.5, mudRatio = 0.3;
+    private int row = 0;
+
+    public StreamingMazeGenerator(int rows, int cols, long seed) {
+        if (rows < 3 || cols < 3) throw new IllegalArgumentException("Maze must be at least 3x3");
+        this.rows = rows;
+        this.cols = cols;
+        this.seed = seed;
+        this.carver = new EllerRowStream(cols, MazeGenerator.streamFor(seed, MazeGenerator.CARVE, 0));
+        this.extraUp = new boolean[cols];
+    }
+
+    public void setTerrainMix(double grass, double mud) {
+        if (grass < 0 || mud < 0 || grass + mud > 1) {
+            throw new IllegalArgumentException("Invalid terrain mix: grass=" + grass + ", mud=" + mud);
+        }
+        this.grassRatio = grass;
+        this.mudRatio = mud;
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public long getSeed() { return seed; }
+    public boolean hasNextRow() { return row < rows; }
+
+    /** Mengisi walls dan types (panjang cols) untuk baris berikutnya, mengembalikan index baris. */
+    public int nextRow(byte[] walls, byte[] types) {
+        int r = row++;
+        carver.nextRow(walls, r == rows - 1);
+
+        for (int c = 0; c < cols; c++) {
+            if (extraUp[c]) walls[c] &= (byte) ~(1 << MazeGrid.TOP);
+            extraUp[c] = false;
+        }
+        // Extra path seperti MazeGenerator (baris tepi dilewati), tapi hanya ke kanan/bawah
+        // karena baris sebelumnya sudah dikeluarkan.
+        if (r > 0 && r < rows - 1) {
+            SplittableRandom extra = MazeGenerator.streamFor(seed, MazeGenerator.EXTRA_PATHS, r);
+            for (int i = 0; i < cols / 10; i++) {
+                int c = extra.nextInt(cols - 2) + 1;
+                if (extra.nextBoolean()) {
+                    walls[c] &= (byte) ~(1 << MazeGrid.RIGHT);
+                    walls[c + 1] &= (byte) ~(1 << MazeGrid.LEFT);
+                } else {
+                    walls[c] &= (byte) ~(1 << MazeGrid.BOTTOM);
+                    extraUp[c] = true;
+                }
+            }
+        }
+
+        SplittableRandom terrain = MazeGenerator.streamFor(seed, MazeGenerator.TERRAIN, r);
+        for (int c = 0; c < cols; c++) {
+            double rand = terrain.nextDouble();
+            if (rand < grassRatio) types[c] = (byte) Cell.CellType.GRASS.ordinal();
+            else if (rand < grassRatio + mudRatio) types[c] = (byte) Cell.CellType.MUD.ordinal();
+            else types[c] = (byte) Cell.CellType.WATER.ordinal();
+        }
+        if (r == 0) types[0] = (byte) Cell.CellType.GRASS.ordinal();
+        if (r == rows - 1) types[cols - 1] = (byte) Cell.CellType.GRASS.ordinal();
+        return r;
+    }
+
+    /** Menulis seluruh maze ke file tanpa pernah menyimpan lebih dari satu baris di memori. */
+    public void writeTo(Path file) throws IOException {
+        byte[] walls = new byte[cols], types = new byte[cols];
+        try (MazeFileWriter writer = new MazeFileWriter(file, cols, seed)) {
+            while (hasNextRow()) {
+                nextRow(walls, types);
+                writer.writeRow(walls, types);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int rows = 1000, cols = 1000;
+        long seed = System.nanoTime();
+        String out = "maze.bin";
+        for (int i = 0; i < args.length; i += 2) {
+            // Semua opsi butuh nilai; opsi tanpa nilai di akhir argumen dianggap salah pakai
+            if (i + 1 >= args.length) usage("Missing value for " + args[i]);
+            switch (args[i]) {
+                case "--rows": rows = Integer.parseInt(args[i + 1]); break;
+                case "--cols": cols = Integer.parseInt(args[i + 1]); break;
+                case "--seed": seed = Long.parseLong(args[i + 1]); break;
+                case "--out": out = args[i + 1]; break;
+                default: usage("Unknown option: " + args[i]);
+            }
+        }
+        long start = System.nanoTime();
+        new StreamingMazeGenerator(rows, cols, seed).writeTo(Paths.get(out));
+        System.out.printf("Wrote %dx%d maze (seed %d) to %s in %.1f ms%n",
+                rows, cols, seed, out, (System.nanoTime() - start) / 1e6);
+    }
+
+    private static void usage(String problem) {
+        System.err.println(problem);
+        System.err.println("Options: --rows N --cols N --seed S --out FILE");
+        System.exit(2);
+    }
+}
@@ -0,0 +1,53 @@
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
+// Wilson's algorithm: loop-erased random walk, menghasilkan uniform spanning tree.
+// Arah terakhir keluar dari setiap sel disimpan, jadi loop otomatis terhapus saat jalur ditelusuri ulang.
+public class WilsonStrategy implements GenerationStrategy {
+    @Override
+    public String getName() { return "Wilson"; }
+
+    @Override
+    public void carve(MazeGrid grid, int row0, int col0, int height, int width,
+                      SplittableRandom random, IntConsumer progress) {
+        int cells = height * width;
+        boolean[] inTree = new boolean[cells];
+        byte[] exitDir = new byte[cells];
+        inTree[random.nextInt(cells)] = true;
+        int added = 1, reportEvery = Math.max(1, cells / 100);
+
+        for (int start = 0; start < cells; start++) {
+            if (inTree[start]) continue;
+
+            // Random walk sampai menyentuh tree
+            int cur = start;
+            while (!inTree[cur]) {
+                int dir, next;
+                do {
+                    dir = random.nextInt(4);
+                    next = step(cur, dir, width, height);
+                } while (next < 0);
+                exitDir[cur] = (byte) dir;
+                cur = next;
+            }
+
+            // Telusuri ulang jalur tanpa loop dan tambahkan ke tree
+            cur = start;
+            while (!inTree[cur]) {
+                inTree[cur] = true;
+                grid.openPassage(grid.index(row0 + cur / width, col0 + cur % width), exitDir[cur]);
+                cur = step(cur, exitDir[cur], width, height);
+                if (++added % reportEvery == 0) {
+                    MazeGenerator.checkCancelled();
+                    progress.accept((int) ((long) added * 100 / cells));
+                }
+            }
+        }
+    }
+
+    private static int step(int cell, int dir, int width, int height) {
+        int r = cell / width + MazeGrid.DR[dir], c = cell % width + MazeGrid.DC[dir];
+        if (r < 0 || r >= height || c < 0 || c >= width) return -1;
+        return r * width + c;
+    }
+}
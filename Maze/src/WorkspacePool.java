@@ -0,0 +1,22 @@
+import java.util.ArrayDeque;
+
+// Pool kecil SearchWorkspace milik satu solver atau graf. Jumlah workspace mengikuti
+// jumlah pencarian yang benar-benar berjalan bersamaan, dan semuanya ikut dibebaskan
+// bersama pemiliknya (tidak tertinggal di thread pool seperti ThreadLocal).
+public class WorkspacePool {
+    private final int size;
+    private final ArrayDeque<SearchWorkspace> idle = new ArrayDeque<>();
+
+    public WorkspacePool(int size) {
+        this.size = size;
+    }
+
+    public synchronized SearchWorkspace borrow() {
+        SearchWorkspace ws = idle.pollFirst();
+        return ws != null ? ws : new SearchWorkspace(size);
+    }
+
+    public synchronized void release(SearchWorkspace ws) {
+        idle.addFirst(ws);
+    }
+}
@@ -1,70 +1,86 @@
-import javax.sound.sampled.*;
 import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 class AudioManager {
-    private Clip bgmClip;
+    // BGM dan SFX dicampur SoftwareMixer di satu line; volume diterapkan sebagai gain software.
+    // BGM di-stream dari file (tidak di-decode utuh) dan berganti track dengan crossfade.
+    private static final int CROSSFADE_MS = 1500, STOP_FADE_MS = 300;
+
+    private final SoftwareMixer mixer;
+    private final Map<String, SoftwareMixer.Sample> samples = new ConcurrentHashMap<>();
+    private int bgmVoice;
     private int volumeLevel = 80; // Default 80%
 
+    public AudioManager() {
+        this(SoftwareMixer.DEFAULT_BUFFER_FRAMES);
+    }
+
+    public AudioManager(int bufferFrames) {
+        mixer = new SoftwareMixer(bufferFrames, "snake-ladder-audio");
+        mixer.setMasterGain(volumeLevel / 100.0f);
+    }
+
     public void playBGM(SoundChoice choice) {
-        stopBGM();
-        if (choice == SoundChoice.NO_SOUND) return;
+        if (choice == SoundChoice.NO_SOUND) {
+            stopBGM();
+            return;
+        }
 
         String fileName = (choice == SoundChoice.MINECRAFT_1)
                 ? "gaming-game-minecraft-background-music-372242.wav"
                 : "game-gaming-minecraft-background-music-377647 (2).wav";
 
+        File f = new File(fileName);
+        if (!f.exists() || !ensureMixer()) {
+            stopBGM();
+            return;
+        }
+        int fade = SoftwareMixer.framesFor(CROSSFADE_MS);
+        mixer.fadeOut(bgmVoice, fade);
         try {
-            File f = new File(fileName);
-            if (f.exists()) {
-                AudioInputStream stream = AudioSystem.getAudioInputStream(f);
-                bgmClip = AudioSystem.getClip();
-                bgmClip.open(stream);
-                bgmClip.loop(Clip.LOOP_CONTINUOUSLY);
-                applyVolume(bgmClip);
-                bgmClip.start();
-            }
+            bgmVoice = mixer.playStream(f, 1f, true, bgmVoice != 0 ? fade : 0);
         } catch (Exception e) {
+            bgmVoice = 0;
             System.err.println("Audio Error: " + e.getMessage());
         }
     }
 
     public void playSFX(String fileName) {
         if (volumeLevel <= 0) return;
-        try {
-            File f = new File(fileName);
-            if (f.exists()) {
-                AudioInputStream stream = AudioSystem.getAudioInputStream(f);
-                Clip sfx = AudioSystem.getClip();
-                sfx.open(stream);
-                applyVolume(sfx);
-                sfx.start();
-            }
-        } catch (Exception ignored) {}
+        SoftwareMixer.Sample sfx = load(fileName);
+        if (sfx != SoftwareMixer.Sample.SILENCE && ensureMixer()) mixer.play(sfx, 1f, false);
     }
 
     public void stopBGM() {
-        if (bgmClip != null && bgmClip.isRunning()) {
-            bgmClip.stop();
-            bgmClip.close();
-        }
+        mixer.fadeOut(bgmVoice, SoftwareMixer.framesFor(STOP_FADE_MS));
+        bgmVoice = 0;
     }
 
     public void setVolume(int volume) {
         this.volumeLevel = volume;
-        applyVolume(bgmClip);
+        mixer.setMasterGain(volume / 100.0f);
     }
 
     public int getVolume() {
         return volumeLevel;
     }
 
-    private void applyVolume(Clip clip) {
-        if (clip != null && clip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-            FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-            float vol = volumeLevel / 100.0f;
-            if (vol <= 0.0f) vol = 0.0001f;
-            float dB = (float) (Math.log(vol) / Math.log(10.0) * 20.0);
-            gainControl.setValue(dB);
-        }
+    private boolean ensureMixer() {
+        return mixer.isRunning() || mixer.start();
+    }
+
+    // Setiap file di-decode sekali; file yang hilang/rusak disimpan sebagai SILENCE
+    private SoftwareMixer.Sample load(String fileName) {
+        return samples.computeIfAbsent(fileName, name -> {
+            File f = new File(name);
+            if (!f.exists()) return SoftwareMixer.Sample.SILENCE;
+            try {
+                return SoftwareMixer.load(f);
+            } catch (Exception e) {
+                System.err.println("Audio Error: " + e.getMessage());
+                return SoftwareMixer.Sample.SILENCE;
+            }
+        });
     }
-}
\ No newline at end of file
+}